@@ -0,0 +1,73 @@
+package bricker.benchmarks;
+
+import bricker.AssetRegistry;
+import bricker.RandomStreams;
+import bricker.Constants;
+import bricker.brick_strategies.StrategiesFactory;
+import bricker.gameobjects.Brick;
+import bricker.gameobjects.BrickGrid;
+import danogl.util.Counter;
+import danogl.util.Vector2;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures laying out a board the way the game manager's addBricks does: computing the grid,
+ * rolling every brick's strategy and creating the bricks. The bricks are not added to a game
+ * object collection.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrickLayoutBenchmark {
+    // a fixed seed, so every run measures the same boards.
+    private static final long SEED = 1;
+    @Param({"7x8", "50x50", "200x200"})
+    private String grid;
+
+    private int rows;
+    private int columns;
+
+    /**
+     * Parses the grid size.
+     */
+    @Setup
+    public void setUp() {
+        String[] size = grid.split("x");
+        rows = Integer.parseInt(size[0]);
+        columns = Integer.parseInt(size[1]);
+    }
+
+    /**
+     * @return The laid out board.
+     */
+    @Benchmark
+    public BrickGrid addBricks() {
+        BrickGrid brickGrid = BrickGrid.forWindow(rows, columns, Constants.WINDOW_WIDTH);
+        StrategiesFactory factory = new StrategiesFactory(null, null, null,
+                new AssetRegistry(null, null), null, null, new Counter(0), new Counter(0), null,
+                new RandomStreams(SEED));
+        Counter bricksCounter = new Counter(rows * columns);
+        Vector2 brickDimensions = brickGrid.getBrickDimensions();
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                brickGrid.add(i, j, new Brick(brickGrid.getCellTopLeftCorner(i, j), brickDimensions,
+                        null, factory.build(), bricksCounter, null));
+            }
+        }
+        return brickGrid;
+    }
+}
@@ -0,0 +1,115 @@
+package bricker.benchmarks;
+
+import bricker.AssetRegistry;
+import bricker.RandomStreams;
+import bricker.Constants;
+import bricker.WorldCommandBuffer;
+import bricker.brick_strategies.CollisionStrategy;
+import bricker.brick_strategies.StrategiesFactory;
+import bricker.brick_strategies.StrategyRegistry;
+import bricker.gameobjects.Brick;
+import bricker.gameobjects.PackBallSystem;
+import bricker.main.BrickerGameManager;
+import bricker.main.HeadlessSimulation;
+import bricker.main.HeadlessStubs;
+import danogl.gui.WindowController;
+import danogl.util.Counter;
+import danogl.util.Vector2;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the collision dispatch of every concrete strategy, including double strategies.
+ * The game is full on lives and paddles, so the heart and paddle strategies do not keep adding
+ * objects to the collection. The queued changes are applied and the spawned packs are cleared
+ * after every hit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionDispatchBenchmark {
+    // a fixed seed, so every run measures the same boards.
+    private static final long SEED = 1;
+    @Param({"basic", "extraHeart", "extraPaddle", "extraBall", "changeCamera", "double",
+            "nestedDouble"})
+    private String strategy;
+
+    private CollisionStrategy collisionStrategy;
+    private Brick brick;
+    private PackBallSystem packBalls;
+    private WorldCommandBuffer commands;
+
+    /**
+     * Creates the strategy inside a headless game.
+     */
+    @Setup
+    public void setUp() {
+        HeadlessSimulation simulation = new HeadlessSimulation(Constants.DEFAULT_AMOUNT_OF_BRICK_LINES,
+                Constants.DEFAULT_AMOUNT_OF_BRICKS_PER_LINE, 1 / 60f, SEED);
+        simulation.start();
+        BrickerGameManager gameManager = simulation.getGameManager();
+        Vector2 windowDimensions = new Vector2(Constants.WINDOW_WIDTH, Constants.WINDOW_LENGTH);
+        WindowController windowController = HeadlessStubs.create(WindowController.class,
+                (proxy, method, args) -> method.getName().equals("getWindowDimensions") ?
+                        windowDimensions : HeadlessStubs.defaultValue(method));
+        packBalls = new PackBallSystem(windowDimensions, null, null);
+        commands = new WorldCommandBuffer(gameManager.gameObjects());
+        StrategiesFactory factory = new StrategiesFactory(gameManager, gameManager.gameObjects(),
+                commands, new AssetRegistry(null, null), HeadlessStubs.inputListener(key -> false),
+                windowController, new Counter(Constants.MAXIMAL_NUMBER_LIVES),
+                new Counter(Constants.ALLOWED_NUMBER_OF_PADDLES), packBalls, new RandomStreams(SEED));
+        collisionStrategy = factory.get(codeOf(strategy));
+        brick = new Brick(Vector2.ZERO, new Vector2(Constants.PADDLE_WIDTH, Constants.BRICK_HEIGHT),
+                null, collisionStrategy, new Counter(0), commands);
+    }
+
+    /**
+     * Hits the brick with a pack.
+     */
+    @Benchmark
+    public void onCollision() {
+        collisionStrategy.onCollision(brick, packBalls);
+        commands.apply();
+        packBalls.clear();
+    }
+
+    /**
+     * Maps a benchmark parameter to a strategy code.
+     * @param name The parameter.
+     * @return The code of the strategy.
+     */
+    private static int codeOf(String name) {
+        switch (name) {
+            case "extraHeart":
+                return StrategyRegistry.EXTRA_HEART;
+            case "extraPaddle":
+                return StrategyRegistry.EXTRA_PADDLE;
+            case "extraBall":
+                return StrategyRegistry.EXTRA_BALL;
+            case "changeCamera":
+                return StrategyRegistry.CHANGE_CAMERA;
+            case "double":
+                return StrategyRegistry.doubleCode(StrategyRegistry.EXTRA_HEART,
+                        StrategyRegistry.EXTRA_BALL);
+            case "nestedDouble":
+                return StrategyRegistry.doubleCode(StrategyRegistry.doubleCode(
+                        StrategyRegistry.EXTRA_PADDLE, StrategyRegistry.EXTRA_BALL),
+                        StrategyRegistry.EXTRA_HEART);
+            default:
+                return StrategyRegistry.BASIC;
+        }
+    }
+}
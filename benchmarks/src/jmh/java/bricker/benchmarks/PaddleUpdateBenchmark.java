@@ -0,0 +1,65 @@
+package bricker.benchmarks;
+
+import bricker.Constants;
+import bricker.gameobjects.Paddle;
+import bricker.main.HeadlessSimulation;
+import bricker.main.HeadlessStubs;
+import danogl.util.Counter;
+import danogl.util.Vector2;
+import java.awt.event.KeyEvent;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a frame of the paddle, with no key, the left key or the right key held down.
+ * Holding a key keeps the paddle pressed against the screen edge after the first frames.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaddleUpdateBenchmark {
+    private static final float DELTA_TIME = 1 / 60f;
+
+    @Param({"none", "left", "right"})
+    private String key;
+
+    private Paddle paddle;
+
+    /**
+     * Creates a paddle inside a headless game.
+     */
+    @Setup
+    public void setUp() {
+        HeadlessSimulation simulation = new HeadlessSimulation(Constants.DEFAULT_AMOUNT_OF_BRICK_LINES,
+                Constants.DEFAULT_AMOUNT_OF_BRICKS_PER_LINE, DELTA_TIME);
+        simulation.start();
+        int pressedKey = key.equals("left") ? KeyEvent.VK_LEFT :
+                key.equals("right") ? KeyEvent.VK_RIGHT : KeyEvent.VK_UNDEFINED;
+        Vector2 windowDimensions = new Vector2(Constants.WINDOW_WIDTH, Constants.WINDOW_LENGTH);
+        paddle = new Paddle(windowDimensions.mult(Constants.SCREEN_CENTER),
+                new Vector2(Constants.PADDLE_WIDTH, Constants.PADDLE_HEIGHT), null,
+                HeadlessStubs.inputListener(pressed -> pressed == pressedKey), windowDimensions,
+                Double.POSITIVE_INFINITY, simulation.getGameManager().gameObjects(), new Counter(0));
+    }
+
+    /**
+     * Updates the paddle for one frame.
+     */
+    @Benchmark
+    public void update() {
+        paddle.update(DELTA_TIME);
+    }
+}
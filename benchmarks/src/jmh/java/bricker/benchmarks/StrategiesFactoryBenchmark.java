@@ -0,0 +1,50 @@
+package bricker.benchmarks;
+
+import bricker.AssetRegistry;
+import bricker.RandomStreams;
+import bricker.brick_strategies.CollisionStrategy;
+import bricker.brick_strategies.StrategiesFactory;
+import danogl.util.Counter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rolling the collision strategy of a single brick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategiesFactoryBenchmark {
+    // a fixed seed, so every run measures the same boards.
+    private static final long SEED = 1;
+    private StrategiesFactory factory;
+
+    /**
+     * Creates a factory without a game, which its strategies only store.
+     */
+    @Setup
+    public void setUp() {
+        factory = new StrategiesFactory(null, null, null, new AssetRegistry(null, null), null, null,
+                new Counter(0), new Counter(0), null, new RandomStreams(SEED));
+    }
+
+    /**
+     * @return A rolled strategy.
+     */
+    @Benchmark
+    public CollisionStrategy build() {
+        return factory.build();
+    }
+}
@@ -0,0 +1,73 @@
+package bricker.benchmarks;
+
+import bricker.AssetRegistry;
+import bricker.RandomStreams;
+import bricker.brick_strategies.CollisionStrategy;
+import bricker.brick_strategies.StrategiesFactory;
+import danogl.util.Counter;
+
+/**
+ * Measures the time it takes to roll the strategies of a board, and the heap every brick's
+ * strategy retains. The factory only stores its collaborators, so it runs without a game.
+ */
+public class BoardBuildBenchmark {
+    // a fixed seed, so every run measures the same boards.
+    private static final long SEED = 1;
+    private static final int[][] BOARD_SIZES = {{7, 8}, {50, 50}, {200, 200}};
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    /**
+     * Runs the benchmark and prints a line for every board size.
+     * @param args Unused.
+     */
+    public static void main(String[] args) {
+        for (int[] size : BOARD_SIZES) {
+            int bricks = size[0] * size[1];
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                buildBoard(bricks);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                buildBoard(bricks);
+            }
+            double buildMillis = (System.nanoTime() - start) / 1e6 / MEASURED_ROUNDS;
+
+            long before = usedHeap();
+            CollisionStrategy[] board = buildBoard(bricks);
+            long retained = usedHeap() - before;
+            System.out.printf("%dx%d: %.3f ms to build, %.1f bytes retained per brick%n",
+                    size[0], size[1], buildMillis, (double) retained / bricks);
+            if (board.length != bricks) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    /**
+     * Rolls the strategies of a board the way the game manager does.
+     * @param bricks The number of bricks on the board.
+     * @return The strategy of every brick.
+     */
+    private static CollisionStrategy[] buildBoard(int bricks) {
+        StrategiesFactory factory = new StrategiesFactory(null, null, null,
+                new AssetRegistry(null, null), null, null, new Counter(0), new Counter(0), null,
+                new RandomStreams(SEED));
+        CollisionStrategy[] board = new CollisionStrategy[bricks];
+        for (int i = 0; i < bricks; i++) {
+            board[i] = factory.build();
+        }
+        return board;
+    }
+
+    /**
+     * @return The heap in use after a garbage collection, in bytes.
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
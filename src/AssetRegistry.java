@@ -0,0 +1,125 @@
+package bricker;
+
+import danogl.gui.ImageReader;
+import danogl.gui.Sound;
+import danogl.gui.SoundReader;
+import danogl.gui.rendering.Renderable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of the game's decoded images and sounds.
+ * Every path is read from disk once, and the same instance is handed out on every lookup,
+ * so gameplay code never touches the readers or the disk.
+ */
+public class AssetRegistry {
+    private static final String[] IMAGE_PATHS = {
+            Constants.BALL_IMAGE_PATH,
+            Constants.PADDLE_IMAGE_PATH,
+            Constants.BACKGROUND_IMAGE_PATH,
+            Constants.BRICK_IMAGE_PATH,
+            Constants.LIFE_IMAGE_PATH,
+            Constants.MOCK_BALL_IMAGE_PATH
+    };
+    private static final String[] SOUND_PATHS = {
+            Constants.BALL_SOUND_PATH
+    };
+
+    private final ImageReader imageReader;
+    private final SoundReader soundReader;
+    private final Map<String, Renderable> images;
+    private final Map<String, Sound> sounds;
+    private int hits;
+    private int misses;
+    private long decodeNanos;
+
+    /**
+     * Constructor.
+     * @param imageReader The game's image reader. Can be null, in which case every image is null.
+     * @param soundReader The game's sound reader. Can be null, in which case every sound is null.
+     */
+    public AssetRegistry(ImageReader imageReader, SoundReader soundReader) {
+        this.imageReader = imageReader;
+        this.soundReader = soundReader;
+        this.images = new HashMap<>();
+        this.sounds = new HashMap<>();
+    }
+
+    /**
+     * Decodes every image and sound path of the game.
+     */
+    public void preload() {
+        for (String path : IMAGE_PATHS) {
+            getImage(path);
+        }
+        for (String path : SOUND_PATHS) {
+            getSound(path);
+        }
+    }
+
+    /**
+     * Getter for an image, reading it from disk on the first lookup only.
+     * @param path The path of the image.
+     * @return The shared image.
+     */
+    public Renderable getImage(String path) {
+        if (images.containsKey(path)) {
+            hits++;
+            return images.get(path);
+        }
+        misses++;
+        long start = System.nanoTime();
+        Renderable image = imageReader == null ? null : imageReader.readImage(path, true);
+        decodeNanos += System.nanoTime() - start;
+        images.put(path, image);
+        return image;
+    }
+
+    /**
+     * Getter for a sound, reading it from disk on the first lookup only.
+     * @param path The path of the sound.
+     * @return The shared sound.
+     */
+    public Sound getSound(String path) {
+        if (sounds.containsKey(path)) {
+            hits++;
+            return sounds.get(path);
+        }
+        misses++;
+        long start = System.nanoTime();
+        Sound sound = soundReader == null ? null : soundReader.readSound(path);
+        decodeNanos += System.nanoTime() - start;
+        sounds.put(path, sound);
+        return sound;
+    }
+
+    /**
+     * @return The number of lookups that were served from the registry.
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * @return The number of lookups that read from disk.
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return The total time spent reading assets from disk, in nanoseconds.
+     */
+    public long getDecodeNanos() {
+        return decodeNanos;
+    }
+
+    /**
+     * @return A readable summary of the registry's statistics.
+     */
+    @Override
+    public String toString() {
+        return String.format("assets: %d hits, %d misses, %.3f ms decoding",
+                hits, misses, decodeNanos / 1e6);
+    }
+}
@@ -1,5 +1,7 @@
 package bricker;
 
+import danogl.collisions.Layer;
+
 /**
  * Class for the constants of the game.
  */
@@ -104,6 +106,100 @@ public class Constants {
      */
     public static final float NUMERIC_LIFE_SIZE = 50;
 
+    /**
+     * The width of a text element in the heads-up display.
+     */
+    public static final float HUD_TEXT_WIDTH = 120;
+
+    /**
+     * The height of a text element in the heads-up display.
+     */
+    public static final float HUD_TEXT_HEIGHT = 25;
+
+    /**
+     * The width of the end of game prompt.
+     */
+    public static final float PROMPT_WIDTH = 320;
+
+    /**
+     * The height of the end of game prompt.
+     */
+    public static final float PROMPT_HEIGHT = 40;
+
+    /**
+     * The time, in seconds, over which the displayed frame rate is averaged.
+     */
+    public static final float FRAME_RATE_SAMPLE_SECONDS = 0.5f;
+
+    /**
+     * The number of simulation ticks in a second, unless {@link #TICK_RATE_PROPERTY} is set.
+     */
+    public static final int DEFAULT_TICK_RATE = 60;
+
+    /**
+     * The most ticks a single frame runs. A frame that falls further behind drops the rest of
+     * its time, so a slow frame does not make the next ones slower still.
+     */
+    public static final int MAX_TICKS_PER_FRAME = 5;
+
+    /**
+     * The number of sounds that can play at the same time.
+     */
+    public static final int SOUND_VOICES = 8;
+
+    /**
+     * The time, in seconds, a played sound keeps its voice busy, about the length of the
+     * collision sound.
+     */
+    public static final float SOUND_VOICE_SECONDS = 0.25f;
+
+    /**
+     * The time, in seconds, in which another play of a sound is merged into its last play.
+     */
+    public static final float SOUND_MERGE_SECONDS = 0.04f;
+
+    /**
+     * The number of packs above which the packs are moved on a fork-join pool.
+     */
+    public static final int PARALLEL_PACK_THRESHOLD = 2048;
+
+    /**
+     * The number of packs a single fork-join task of the packs' moves moves.
+     */
+    public static final int PARALLEL_PACK_CHUNK = 512;
+
+    /**
+     * The frame rate the load governor keeps the game at.
+     */
+    public static final int TARGET_FRAME_RATE = 60;
+
+    /**
+     * The weight of the last frame in the load governor's average frame time.
+     */
+    public static final float GOVERNOR_SMOOTHING = 0.1f;
+
+    /**
+     * The ratio of the average frame time to the frame budget above which the load governor
+     * turns on its next degradation.
+     */
+    public static final float GOVERNOR_OVERLOAD_RATIO = 1.15f;
+
+    /**
+     * The ratio of the average frame time to the frame budget below which the load governor
+     * turns off its last degradation.
+     */
+    public static final float GOVERNOR_RECOVERY_RATIO = 1.05f;
+
+    /**
+     * The least time, in seconds, between two changes of the load governor's degradations.
+     */
+    public static final float GOVERNOR_HOLD_SECONDS = 1f;
+
+    /**
+     * The number of packs the extra ball strategy spawns up to while spawns are capped.
+     */
+    public static final int GOVERNED_PACK_LIMIT = 256;
+
     // ------------------------------GAME-VARIABLES------------------------------------------
     /**
      * The allowed number of paddles in a single moment.
@@ -119,6 +215,12 @@ public class Constants {
      */
     public final static int BALL_SPEED = 300;  // 200;
 
+    /**
+     * The longest distance a ball or a pack moves in a single collision step. A ball that moves
+     * farther in a frame is moved in several steps, so it can not pass through a brick.
+     */
+    public final static float MAX_STEP_DISTANCE = BRICK_HEIGHT / 2;
+
     /**
      * The maximal number of lives a user can have in a specific moment.
      */
@@ -129,6 +231,11 @@ public class Constants {
      */
     public static final double EXTRA_PADDLE_COLLISION_LIMIT = 4;
 
+    /**
+     * The maximal number of removed falling hearts kept for reuse.
+     */
+    public static final int FALLING_HEART_POOL_SIZE = 8;
+
     /**
      * The speed of the paddle
      */
@@ -139,6 +246,11 @@ public class Constants {
      */
     public static final int NUMBER_OF_COLLISIONS_TO_CALIBRATE_CAMERA = 4;
 
+    /**
+     * The size of the world the camera that follows the ball shows, relative to the window.
+     */
+    public static final float CAMERA_VIEW_RATIO = 1.2f;
+
     //-------------------------PROMPTS----------------------------------------
     /**
      * Prompt that appears if the user lost the game.
@@ -150,6 +262,11 @@ public class Constants {
      */
     public static final String WON_PROMPT = "You win! Play again?";
 
+    /**
+     * The keys that answer the prompts, displayed after them.
+     */
+    public static final String PROMPT_KEYS = " (Y/N)";
+
     // -----------------------PATHS-----------------------------------------------
     /**
      * Path to the ball's sound.
@@ -186,6 +303,59 @@ public class Constants {
      */
     public static final String MOCK_BALL_IMAGE_PATH = "assets/mockBall.png";
 
+    /**
+     * Path, without an extension, the frame profile is exported to as JSON and CSV.
+     */
+    public static final String PROFILE_EXPORT_PATH = "bricker-profile";
+
+    /**
+     * System property holding the path prefix the games' input is recorded to, if it is set.
+     */
+    public static final String RECORDING_PROPERTY = "bricker.record";
+
+    /**
+     * Extension of an input recording.
+     */
+    public static final String RECORDING_EXTENSION = ".replay";
+
+    /**
+     * System property holding the path of a level file to play instead of a rolled board.
+     */
+    public static final String LEVEL_PROPERTY = "bricker.level";
+
+    /**
+     * System property holding the number of simulation ticks in a second.
+     */
+    public static final String TICK_RATE_PROPERTY = "bricker.tickRate";
+
+    //---------------------------------LAYERS-----------------------------------------
+    /**
+     * The layer of the bricks, which collide with the balls through the brick grid
+     * rather than through the game object collection.
+     */
+    public static final int BRICK_LAYER = Layer.FOREGROUND;
+
+    /**
+     * The layer of the pack ball system, which moves and collides the packs by itself.
+     */
+    public static final int PACK_BALL_LAYER = Layer.FOREGROUND;
+
+    //----------------------------------RANDOM STREAMS--------------------------------
+    /**
+     * Name of the random stream of the main ball's directions.
+     */
+    public static final String BALL_RANDOM_STREAM = "ball";
+
+    /**
+     * Name of the random stream the bricks' strategies are rolled from.
+     */
+    public static final String BRICKS_RANDOM_STREAM = "bricks";
+
+    /**
+     * Name of the random stream of the packs' directions.
+     */
+    public static final String PACKS_RANDOM_STREAM = "packs";
+
     //----------------------------------TAGS------------------------------------------
     /**
      * Tag for the main ball.
@@ -207,6 +377,11 @@ public class Constants {
      */
     public static final String FALLING_HEART_TAG = "falling heart";
 
+    /**
+     * Tag for the extra paddles.
+     */
+    public static final String EXTRA_PADDLE_TAG = "extra paddle";
+
     /**
      * Tag for the basic strategy.
      */
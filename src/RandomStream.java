@@ -0,0 +1,115 @@
+package bricker;
+
+/**
+ * A random stream of the game, which draws exactly the numbers a
+ * {@link java.util.SplittableRandom} with the same seed draws, but whose state can be read and
+ * set. A game can therefore be saved and restored halfway, and still draw the same numbers
+ * after the restore as it would have drawn without it.
+ */
+public class RandomStream {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private long state;
+
+    /**
+     * Constructor.
+     * @param seed The seed of the stream.
+     */
+    public RandomStream(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Getter for the state of the stream.
+     * @return The state, which a stream set to it continues from.
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Setter for the state of the stream.
+     * @param state A state read with {@link #getState}.
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    /**
+     * Drawing a boolean.
+     * @return The next boolean of the stream.
+     */
+    public boolean nextBoolean() {
+        return mix32(nextSeed()) < 0;
+    }
+
+    /**
+     * Drawing a long.
+     * @return The next long of the stream.
+     */
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    /**
+     * Drawing a double between zero, inclusive, and one, exclusive.
+     * @return The next double of the stream.
+     */
+    public double nextDouble() {
+        return (mix64(nextSeed()) >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Drawing an int between zero, inclusive, and a bound, exclusive, uniformly.
+     * @param bound The bound, which must be positive.
+     * @return The next int of the stream below the bound.
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        int r = mix32(nextSeed());
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        // rejecting the draws of the last, partial range of the bound keeps the ints uniform.
+        int u = r >>> 1;
+        while (u + m - (r = u % bound) < 0) {
+            u = mix32(nextSeed()) >>> 1;
+        }
+        return r;
+    }
+
+    /**
+     * Advancing the state.
+     * @return The new state.
+     */
+    private long nextSeed() {
+        return state += GOLDEN_GAMMA;
+    }
+
+    /**
+     * The 64 bit finalizer of the SplitMix64 generator.
+     * @param value The value.
+     * @return The mixed value.
+     */
+    private static long mix64(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * The 32 bit finalizer of the SplitMix64 generator.
+     * @param value The value.
+     * @return The mixed value.
+     */
+    private static int mix32(long value) {
+        long z = value;
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+}
@@ -0,0 +1,78 @@
+package bricker;
+
+/**
+ * Seeded source of the game's random numbers.
+ * Every game and every subsystem of a game draws from its own stream, derived from the seed
+ * and the stream's name only. A game is therefore reproducible from its seed, no matter how many
+ * other games run alongside it or in what order its subsystems are created.
+ */
+public class RandomStreams {
+    private static final String SEED_PROPERTY = "bricker.seed";
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+
+    /**
+     * Constructor.
+     * @param seed The seed every stream is derived from.
+     */
+    public RandomStreams(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * The seed of a run that did not ask for one: the "bricker.seed" system property if it is
+     * set, and otherwise a seed derived from the clock.
+     * @return The seed.
+     */
+    public static long defaultSeed() {
+        Long seed = Long.getLong(SEED_PROPERTY);
+        return seed != null ? seed : mix(System.nanoTime());
+    }
+
+    /**
+     * @return The seed every stream is derived from.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Splitting off the streams of a single game.
+     * @param game The index of the game.
+     * @return The game's streams.
+     */
+    public RandomStreams forGame(long game) {
+        return new RandomStreams(derive(game));
+    }
+
+    /**
+     * Creating the stream of a subsystem.
+     * @param name The name of the subsystem, one of the random stream names in {@link Constants}.
+     * @return A new generator, which always produces the same numbers for the same seed and name.
+     */
+    public RandomStream stream(String name) {
+        return new RandomStream(derive(name.hashCode()));
+    }
+
+    /**
+     * Deriving a seed from this seed and a key.
+     * @param key The key.
+     * @return The derived seed.
+     */
+    private long derive(long key) {
+        return mix(seed ^ mix(key + GOLDEN_GAMMA));
+    }
+
+    /**
+     * The finalizer of the SplitMix64 generator, which spreads every input bit over the output.
+     * @param value The value.
+     * @return The mixed value.
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
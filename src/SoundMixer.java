@@ -0,0 +1,180 @@
+package bricker;
+
+import danogl.gui.Sound;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Mixer that every collision sound of the game is played through.
+ * A sound played again within a short window of its last play is merged into it instead of
+ * starting another voice, and a sound played while all the voices are busy is dropped, so a
+ * chain of bounces costs a few voices instead of a play per bounce. The accepted sounds are
+ * handed to a background thread, which is the only one that talks to the audio backend, so a
+ * play never blocks a frame.
+ */
+public class SoundMixer {
+    private final long voiceNanos;
+    private final long mergeNanos;
+    private final long[] voiceEnds;
+    private final BlockingQueue<Sound> queue;
+    private Sound[] sounds;
+    private long[] lastPlays;
+    private int soundCount;
+    private Thread player;
+    private boolean muted;
+    private int played;
+    private int merged;
+    private int dropped;
+    private int skipped;
+
+    /**
+     * Constructor.
+     * @param voices The number of sounds that can play at the same time.
+     * @param voiceSeconds The time, in seconds, a played sound keeps its voice busy.
+     * @param mergeSeconds The time, in seconds, in which another play of a sound is merged into
+     *                     its last play.
+     */
+    public SoundMixer(int voices, float voiceSeconds, float mergeSeconds) {
+        this.voiceNanos = (long) (voiceSeconds * 1e9);
+        this.mergeNanos = (long) (mergeSeconds * 1e9);
+        this.voiceEnds = new long[voices];
+        Arrays.fill(voiceEnds, System.nanoTime());
+        this.queue = new ArrayBlockingQueue<>(voices);
+        this.sounds = new Sound[0];
+        this.lastPlays = new long[0];
+    }
+
+    /**
+     * Playing a sound, unless it is merged into its last play or there is no free voice for it.
+     * @param sound The sound. Can be null, in which case nothing is played.
+     */
+    public void play(Sound sound) {
+        if (sound == null) {
+            return;
+        }
+        if (muted) {
+            skipped++;
+            return;
+        }
+        long now = System.nanoTime();
+        int index = indexOf(sound, now);
+        if (now - lastPlays[index] < mergeNanos) {
+            merged++;
+            return;
+        }
+        int voice = freeVoice(now);
+        if (voice < 0 || !queue.offer(sound)) {
+            dropped++;
+            return;
+        }
+        voiceEnds[voice] = now + voiceNanos;
+        lastPlays[index] = now;
+        played++;
+        if (player == null) {
+            startPlayer();
+        }
+    }
+
+    /**
+     * Setter for whether the sounds are skipped.
+     * @param muted True to skip every play, false to play the sounds again.
+     */
+    public void setMuted(boolean muted) {
+        this.muted = muted;
+    }
+
+    /**
+     * @return The number of plays that were handed to the backend.
+     */
+    public int getPlayed() {
+        return played;
+    }
+
+    /**
+     * @return The number of plays that were merged into an earlier play of their sound.
+     */
+    public int getMerged() {
+        return merged;
+    }
+
+    /**
+     * @return The number of plays that were dropped since all the voices were busy.
+     */
+    public int getDropped() {
+        return dropped;
+    }
+
+    /**
+     * @return The number of plays that were skipped while the mixer was muted.
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Looking up the slot of a sound, adding one for a sound played for the first time. A game
+     * only has a few sounds, so they are searched in an array instead of a map, which would box
+     * the play times.
+     * @param sound The sound.
+     * @param now The current time, in nanoseconds.
+     * @return The index of the sound's slot.
+     */
+    private int indexOf(Sound sound, long now) {
+        for (int i = 0; i < soundCount; i++) {
+            if (sounds[i] == sound) {
+                return i;
+            }
+        }
+        if (soundCount == sounds.length) {
+            sounds = Arrays.copyOf(sounds, soundCount + 1);
+            lastPlays = Arrays.copyOf(lastPlays, soundCount + 1);
+        }
+        sounds[soundCount] = sound;
+        lastPlays[soundCount] = now - mergeNanos;
+        return soundCount++;
+    }
+
+    /**
+     * Finding a voice that does not play a sound.
+     * @param now The current time, in nanoseconds.
+     * @return The index of the voice, or -1 if all the voices are busy.
+     */
+    private int freeVoice(long now) {
+        for (int i = 0; i < voiceEnds.length; i++) {
+            if (voiceEnds[i] - now <= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Starting the background thread that plays the accepted sounds. It is started on the first
+     * play, so a game without sounds never starts it, and it is a daemon, so it ends with the
+     * game.
+     */
+    private void startPlayer() {
+        player = new Thread(() -> {
+            try {
+                while (true) {
+                    queue.take().play();
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "bricker-sound");
+        player.setDaemon(true);
+        player.start();
+    }
+
+    /**
+     * @return A readable summary of the mixer's statistics.
+     */
+    @Override
+    public String toString() {
+        return String.format("sounds: %d played, %d merged, %d dropped, %d skipped",
+                played, merged, dropped, skipped);
+    }
+}
@@ -0,0 +1,131 @@
+package bricker;
+
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.util.Counter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Buffer of the changes the bricks' strategies make to the game while the objects collide.
+ * Instead of adding and removing game objects and counting the bricks in the middle of the
+ * collision pass, the strategies queue their changes, and the game applies them all at once
+ * after the collisions, in the order they were queued. An object queued for removal more than
+ * once is removed once, so a brick hit twice in a frame is only removed and counted once.
+ */
+public class WorldCommandBuffer {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final GameObjectCollection gameObjectCollection;
+    private final List<GameObject> removals;
+    private final Set<GameObject> removing;
+    private final List<GameObject> additions;
+    private final List<Counter> decrements;
+    private int[] removalLayers;
+    private int[] additionLayers;
+
+    /**
+     * Constructor.
+     * @param gameObjectCollection The collection the changes are applied to.
+     */
+    public WorldCommandBuffer(GameObjectCollection gameObjectCollection) {
+        this.gameObjectCollection = gameObjectCollection;
+        this.removals = new ArrayList<>();
+        this.removing = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.additions = new ArrayList<>();
+        this.decrements = new ArrayList<>();
+        this.removalLayers = new int[INITIAL_CAPACITY];
+        this.additionLayers = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Queueing an object to be added to the game.
+     * @param gameObject The object.
+     * @param layer The layer to add the object to.
+     */
+    public void addGameObject(GameObject gameObject, int layer) {
+        additionLayers = ensureCapacity(additionLayers, additions.size());
+        additionLayers[additions.size()] = layer;
+        additions.add(gameObject);
+    }
+
+    /**
+     * Queueing an object to be removed from the game, unless it is already queued.
+     * @param gameObject The object.
+     * @param layer The layer to remove the object from.
+     */
+    public void removeGameObject(GameObject gameObject, int layer) {
+        if (!removing.add(gameObject)) {
+            return;
+        }
+        removalLayers = ensureCapacity(removalLayers, removals.size());
+        removalLayers[removals.size()] = layer;
+        removals.add(gameObject);
+    }
+
+    /**
+     * Checks if an object is queued to be removed in this frame.
+     * @param gameObject The object.
+     * @return True if the object is queued for removal.
+     */
+    public boolean isRemoving(GameObject gameObject) {
+        return removing.contains(gameObject);
+    }
+
+    /**
+     * Queueing a decrement of a counter.
+     * @param counter The counter.
+     */
+    public void decrement(Counter counter) {
+        decrements.add(counter);
+    }
+
+    /**
+     * Checks if any change is queued.
+     * @return True if there is nothing to apply.
+     */
+    public boolean isEmpty() {
+        return removals.isEmpty() && additions.isEmpty() && decrements.isEmpty();
+    }
+
+    /**
+     * Applying the queued changes: first the removals, then the additions, so an object from a
+     * pool can be removed and added back in the same frame, and then the counters.
+     */
+    public void apply() {
+        for (int i = 0; i < removals.size(); i++) {
+            gameObjectCollection.removeGameObject(removals.get(i), removalLayers[i]);
+        }
+        for (int i = 0; i < additions.size(); i++) {
+            gameObjectCollection.addGameObject(additions.get(i), additionLayers[i]);
+        }
+        for (int i = 0; i < decrements.size(); i++) {
+            decrements.get(i).decrement();
+        }
+        clear();
+    }
+
+    /**
+     * Dropping the queued changes without applying them.
+     */
+    public void clear() {
+        removals.clear();
+        removing.clear();
+        additions.clear();
+        decrements.clear();
+    }
+
+    /**
+     * Growing an array of layers to hold one more layer.
+     * @param layers The array.
+     * @param size The number of layers in the array.
+     * @return The array, or a larger copy of it.
+     */
+    private static int[] ensureCapacity(int[] layers, int size) {
+        return size < layers.length ? layers : Arrays.copyOf(layers, layers.length * 2);
+    }
+}
@@ -1,22 +1,21 @@
 package bricker.brick_strategies;
 
+import bricker.WorldCommandBuffer;
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
-import danogl.collisions.Layer;
 import bricker.Constants;
 
 /**
  * Class for the basic collision strategy.
  */
 public class BasicCollisionStrategy implements CollisionStrategy{
-    private final GameObjectCollection gameObjectCollection;
+    private final WorldCommandBuffer commands;
 
     /**
      * Constructor for the basic collision strategy.
-     * @param gameObjectCollection The game's game object collection.
+     * @param commands The buffer the brick's removal is queued to.
      */
-    public BasicCollisionStrategy(GameObjectCollection gameObjectCollection){
-        this.gameObjectCollection = gameObjectCollection;
+    public BasicCollisionStrategy(WorldCommandBuffer commands){
+        this.commands = commands;
     }
 
     /**
@@ -27,7 +26,7 @@ public class BasicCollisionStrategy implements CollisionStrategy{
     @Override
     public void onCollision(GameObject objectOne,
                             GameObject objectTwo) {
-        gameObjectCollection.removeGameObject(objectOne, Layer.DEFAULT);
+        commands.removeGameObject(objectOne, Constants.BRICK_LAYER);
     }
 
     /**
@@ -1,15 +1,14 @@
 package bricker.brick_strategies;
 
 import bricker.Constants;
+import bricker.WorldCommandBuffer;
 import bricker.gameobjects.Ball;
+import bricker.gameobjects.CollisionCategory;
 import danogl.GameManager;
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
-import danogl.collisions.Layer;
 import danogl.gui.WindowController;
 import danogl.gui.rendering.Camera;
 import danogl.util.Vector2;
-import java.util.Objects;
 
 /**
  * The ChangeCameraStrategy class is designed to manage camera behavior in response to
@@ -20,7 +19,7 @@ import java.util.Objects;
  */
 public class ChangeCameraStrategy implements CollisionStrategy {
     WindowController windowController;
-    private final GameObjectCollection gameObjectCollection;
+    private final WorldCommandBuffer commands;
     private final GameManager gameManager;
 
     /**
@@ -28,13 +27,13 @@ public class ChangeCameraStrategy implements CollisionStrategy {
      * Initializes a new instance of the ChangeCameraStrategy class,
      * setting up the necessary components for changing the camera based on collisions.
      *
-     * @param gameObjectCollection The collection of game objects to be managed.
+     * @param commands The buffer the brick's removal is queued to.
      * @param windowController Controls the window, used to get dimensions for camera settings.
      * @param gameManager Manages game state, including camera settings.
      */
-    public ChangeCameraStrategy(GameObjectCollection gameObjectCollection,
+    public ChangeCameraStrategy(WorldCommandBuffer commands,
                                 WindowController windowController, GameManager gameManager) {
-        this.gameObjectCollection = gameObjectCollection;
+        this.commands = commands;
         this.windowController = windowController;
         this.gameManager = gameManager;
     }
@@ -48,7 +47,7 @@ public class ChangeCameraStrategy implements CollisionStrategy {
     private void setCamera(GameObject gameObject) {
         if (gameManager.camera() == null) {
             gameManager.setCamera(new Camera(gameObject, Vector2.ZERO,
-                    windowController.getWindowDimensions().mult(1.2f),
+                    windowController.getWindowDimensions().mult(Constants.CAMERA_VIEW_RATIO),
                     windowController.getWindowDimensions()));
         }
     }
@@ -63,8 +62,8 @@ public class ChangeCameraStrategy implements CollisionStrategy {
      */
     @Override
     public void onCollision(GameObject object1, GameObject object2) {
-        gameObjectCollection.removeGameObject(object1, Layer.DEFAULT);
-        if (Objects.equals(object2.getTag(), Constants.MAIN_BALL_TAG) && gameManager.camera() == null) {
+        commands.removeGameObject(object1, Constants.BRICK_LAYER);
+        if (CollisionCategory.of(object2) == CollisionCategory.MAIN_BALL && gameManager.camera() == null) {
             Ball ball = (Ball) object2;
             setCamera(ball);
             ball.setCollisionCounter();
@@ -3,24 +3,21 @@ package bricker.brick_strategies;
 import bricker.Constants;
 import danogl.GameObject;
 
-import java.util.Random;
-
 /**
  * Class for the double behavior strategy.
  */
 public class DoubleStrategy implements CollisionStrategy{
-    private final CollisionStrategy[] strategiesArray;
-    private CollisionStrategy strategyOne;
-    private CollisionStrategy strategyTwo;
+    private final CollisionStrategy strategyOne;
+    private final CollisionStrategy strategyTwo;
 
     /**
      * Constructor for the double behavior strategy.
-     * @param strategiesArray Array that hold all the strategies this strategy can hold.
+     * @param strategyOne The first strategy to activate on collision.
+     * @param strategyTwo The second strategy to activate on collision.
      */
-    public DoubleStrategy(CollisionStrategy[] strategiesArray){
-        this.strategiesArray = strategiesArray;
-        pickRandomStrategies();
-
+    public DoubleStrategy(CollisionStrategy strategyOne, CollisionStrategy strategyTwo){
+        this.strategyOne = strategyOne;
+        this.strategyTwo = strategyTwo;
     }
 
     /**
@@ -42,21 +39,4 @@ public class DoubleStrategy implements CollisionStrategy{
     public String getStrategyTag() {
         return Constants.DOUBLE_STRATEGY_TAG;
     }
-
-    /**
-     * Method that picks two strategies randomly from the strategies it holds.
-     */
-    private void pickRandomStrategies(){
-        Random random = new Random();
-        CollisionStrategy strategyOne = strategiesArray[random.nextInt(strategiesArray.length)];
-        CollisionStrategy strategyTwo = strategiesArray[random.nextInt(strategiesArray.length)];
-        if ((strategyOne.getStrategyTag().equals(Constants.DOUBLE_STRATEGY_TAG)) &&
-                strategyTwo.getStrategyTag().equals(Constants.DOUBLE_STRATEGY_TAG)){
-            pickRandomStrategies();
-        }
-        else{
-            this.strategyOne = strategyOne;
-            this.strategyTwo = strategyTwo;
-        }
-    }
 }
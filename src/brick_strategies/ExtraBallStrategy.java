@@ -1,58 +1,57 @@
 package bricker.brick_strategies;
 
 import bricker.Constants;
-import bricker.gameobjects.Ball;
+import bricker.RandomStream;
+import bricker.WorldCommandBuffer;
+import bricker.gameobjects.PackBallSystem;
 import danogl.GameObject;
-import danogl.collisions.GameObjectCollection;
-import danogl.collisions.Layer;
-import danogl.gui.ImageReader;
-import danogl.gui.Sound;
-import danogl.gui.SoundReader;
-import danogl.gui.rendering.Renderable;
-import danogl.util.Vector2;
-import java.util.Random;
 
 /**
  * Class for the extra ball strategy.
  */
 public class ExtraBallStrategy implements CollisionStrategy {
-    private final Random random;
-    private final GameObjectCollection gameObjectCollection;
-    private final ImageReader imageReader;
-    private final SoundReader soundReader;
+    private static final int PACKS_PER_HIT = 2;
+
+    private RandomStream random;
+    private final WorldCommandBuffer commands;
+    private final PackBallSystem packBalls;
+    private int packLimit = Integer.MAX_VALUE;
 
     /**
      * Constructor for the extra ball strategy.
-     * @param gameObjectCollection The game's game object collection.
-     * @param imageReader The game's image reader.
-     * @param soundReader The game's sound reader.
+     * @param commands The buffer the brick's removal is queued to.
+     * @param packBalls The system that holds the game's packs.
+     * @param random The random stream the directions of the packs are drawn from.
+     */
+    public ExtraBallStrategy(WorldCommandBuffer commands, PackBallSystem packBalls,
+                             RandomStream random) {
+        this.random = random;
+        this.commands = commands;
+        this.packBalls = packBalls;
+    }
+
+    /**
+     * Getter for the random stream the directions of the packs are drawn from.
+     * @return The random stream.
      */
-    public ExtraBallStrategy(GameObjectCollection gameObjectCollection, ImageReader imageReader,
-                             SoundReader soundReader) {
-        this.random = new Random();
-        this.gameObjectCollection = gameObjectCollection;
-        this.imageReader = imageReader;
-        this.soundReader = soundReader;
+    public RandomStream getRandom() {
+        return random;
     }
 
     /**
-     * Method that creates a small ball called a pack.
-     * @return The pack.
+     * Setter for the random stream of a new game.
+     * @param random The random stream the directions of the packs are drawn from.
      */
-    private Ball createBall(){
-        Renderable ballImage = imageReader.readImage(Constants.MOCK_BALL_IMAGE_PATH, true);
-        Sound collisionSound = soundReader.readSound(Constants.BALL_SOUND_PATH);
-        Ball ball = new Ball(Vector2.ZERO, new Vector2(
-                Constants.PACK_TO_BALL_SIZE_RATIO*Constants.BALL_SIZE,
-                Constants.PACK_TO_BALL_SIZE_RATIO*Constants.BALL_SIZE),
-                ballImage, collisionSound);
-        double angle = random.nextDouble() * Math.PI;
-        float velocityX = (float)Math.cos(angle) * Constants.BALL_SPEED;
-        float velocityY = (float)Math.sin(angle) * Constants.BALL_SPEED;
-        ball.setVelocity(new Vector2(velocityX, velocityY));
+    public void setRandom(RandomStream random) {
+        this.random = random;
+    }
 
-        ball.setTag(Constants.PACK_BALL_TAG);
-        return ball;
+    /**
+     * Setter for the number of packs the strategy spawns up to.
+     * @param packLimit The number of packs in the game above which a hit spawns no more packs.
+     */
+    public void setPackLimit(int packLimit) {
+        this.packLimit = packLimit;
     }
 
     /**
@@ -62,11 +61,12 @@ public class ExtraBallStrategy implements CollisionStrategy {
      */
     @Override
     public void onCollision(GameObject object1, GameObject object2) {
-        gameObjectCollection.removeGameObject(object1, Layer.DEFAULT);
-        Ball[] balls = {createBall(), createBall()};
-        for (Ball ball: balls){
-            ball.setCenter(object1.getCenter());
-            gameObjectCollection.addGameObject(ball, Layer.DEFAULT);
+        commands.removeGameObject(object1, Constants.BRICK_LAYER);
+        for (int i = 0; i < PACKS_PER_HIT && packBalls.getCount() < packLimit; i++) {
+            double angle = random.nextDouble() * Math.PI;
+            float velocityX = (float)Math.cos(angle) * Constants.BALL_SPEED;
+            float velocityY = (float)Math.sin(angle) * Constants.BALL_SPEED;
+            packBalls.spawn(object1.getCenter(), velocityX, velocityY);
         }
     }
 
@@ -1,34 +1,52 @@
 package bricker.brick_strategies;
 
+import bricker.AssetRegistry;
 import bricker.Constants;
+import bricker.WorldCommandBuffer;
 import bricker.gameobjects.FallingHeart;
+import bricker.gameobjects.LifecycleManager;
+import bricker.gameobjects.ObjectPool;
+import bricker.gameobjects.RenderClock;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
 import danogl.collisions.Layer;
-import danogl.gui.ImageReader;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Class for the extra heart strategy.
  */
 public class ExtraHeartStrategy implements CollisionStrategy{
     private final GameObjectCollection gameObjectCollection;
-    private final ImageReader imageReader;
+    private final WorldCommandBuffer commands;
+    private final AssetRegistry assets;
     private final Counter lifeCounter;
+    private final ObjectPool<FallingHeart> heartPool;
+    private final List<FallingHeart> fallingHearts;
+    private RenderClock renderClock;
+    private LifecycleManager lifecycle;
 
     /**
      * Constructor for the extra heart strategy.
-     * @param gameObjectCollection The game's game object collection.
-     * @param imageReader The game's image reader.
+     * @param gameObjectCollection The game's game object collection, which caught hearts
+     *                             remove themselves from.
+     * @param commands The buffer the brick's removal and the falling hearts are queued to.
+     * @param assets The game's asset registry.
      * @param lifeCounter The game's life counter.
      */
-    public ExtraHeartStrategy(GameObjectCollection gameObjectCollection,
-                              ImageReader imageReader, Counter lifeCounter){
+    public ExtraHeartStrategy(GameObjectCollection gameObjectCollection, WorldCommandBuffer commands,
+                              AssetRegistry assets, Counter lifeCounter){
         this.lifeCounter = lifeCounter;
         this.gameObjectCollection = gameObjectCollection;
-        this.imageReader = imageReader;
+        this.commands = commands;
+        this.assets = assets;
+        this.fallingHearts = new ArrayList<>();
+        this.heartPool = new ObjectPool<>(Constants.FALLING_HEART_POOL_SIZE, this::createFallingHeart,
+                heart -> { }, this::onRelease);
     }
 
     /**
@@ -39,11 +57,11 @@ public class ExtraHeartStrategy implements CollisionStrategy{
     @Override
     public void onCollision(GameObject objectOne, GameObject objectTwo) {
         if (lifeCounter.value() < Constants.MAXIMAL_NUMBER_LIVES){
-            gameObjectCollection.removeGameObject(objectOne);
+            commands.removeGameObject(objectOne, Constants.BRICK_LAYER);
             addFallingHeart(objectOne.getTopLeftCorner());
         }
         else{
-            gameObjectCollection.removeGameObject(objectOne);
+            commands.removeGameObject(objectOne, Constants.BRICK_LAYER);
         }
     }
 
@@ -56,17 +74,79 @@ public class ExtraHeartStrategy implements CollisionStrategy{
         return Constants.EXTRA_HEART_STRATEGY_TAG;
     }
 
+    /**
+     * Getter for the pool of the falling hearts.
+     * @return The pool.
+     */
+    public ObjectPool<FallingHeart> getHeartPool() {
+        return heartPool;
+    }
+
+    /**
+     * Setter for the clock the hearts created from now on are rendered by.
+     * @param renderClock The clock of the game's ticks.
+     */
+    public void setRenderClock(RenderClock renderClock) {
+        this.renderClock = renderClock;
+    }
+
+    /**
+     * Setter for the manager the hearts added from now on are tracked by.
+     * @param lifecycle The game's lifecycle manager.
+     */
+    public void setLifecycle(LifecycleManager lifecycle) {
+        this.lifecycle = lifecycle;
+    }
+
+    /**
+     * Getter for the hearts that were dropped and were not caught yet.
+     * @return A read-only view of the falling hearts.
+     */
+    public List<FallingHeart> getFallingHearts() {
+        return Collections.unmodifiableList(fallingHearts);
+    }
+
     /**
      * Method that adds a falling heart object in a specific location.
      * @param location The location to locate the falling heart.
+     * @return The falling heart, which is queued to be added to the game.
+     */
+    public FallingHeart addFallingHeart(Vector2 location){
+        FallingHeart fallingHeart = heartPool.acquire();
+        fallingHeart.setTopLeftCorner(location);
+        fallingHeart.snapRenderPosition();
+        fallingHeart.setVelocity(new Vector2(0, 100));
+        commands.addGameObject(fallingHeart, Layer.DEFAULT);
+        fallingHearts.add(fallingHeart);
+        if (lifecycle != null) {
+            lifecycle.track(fallingHeart, fallingHeart::retire);
+        }
+        return fallingHeart;
+    }
+
+    /**
+     * Stopping a heart that was removed from the game and no longer counting it as falling.
+     * @param fallingHeart The heart.
      */
-    private void addFallingHeart(Vector2 location){
-        Renderable heartImageRenderable = imageReader.readImage(Constants.LIFE_IMAGE_PATH,
-                true);
-        FallingHeart fallingHeart = new FallingHeart(location, new Vector2(Constants.HEART_SIZE,
+    private void onRelease(FallingHeart fallingHeart){
+        fallingHeart.setVelocity(Vector2.ZERO);
+        fallingHearts.remove(fallingHeart);
+        if (lifecycle != null) {
+            lifecycle.untrack(fallingHeart);
+        }
+    }
+
+    /**
+     * Method that creates a falling heart that returns to the pool once it is caught.
+     * @return The falling heart.
+     */
+    private FallingHeart createFallingHeart(){
+        Renderable heartImageRenderable = assets.getImage(Constants.LIFE_IMAGE_PATH);
+        FallingHeart fallingHeart = new FallingHeart(Vector2.ZERO, new Vector2(Constants.HEART_SIZE,
                 Constants.HEART_SIZE), heartImageRenderable, gameObjectCollection, lifeCounter);
         fallingHeart.setTag(Constants.FALLING_HEART_TAG);
-        fallingHeart.setVelocity(new Vector2(0, 100));
-        gameObjectCollection.addGameObject(fallingHeart, Layer.DEFAULT);
+        fallingHeart.setPool(heartPool);
+        fallingHeart.interpolate(renderClock);
+        return fallingHeart;
     }
 }
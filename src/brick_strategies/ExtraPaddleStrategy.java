@@ -1,7 +1,13 @@
 package bricker.brick_strategies;
 
+import bricker.AssetRegistry;
 import bricker.Constants;
+import bricker.WorldCommandBuffer;
+import bricker.gameobjects.LifecycleManager;
+import bricker.gameobjects.ObjectPool;
+import bricker.gameobjects.PackBallSystem;
 import bricker.gameobjects.Paddle;
+import bricker.gameobjects.RenderClock;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
 import danogl.collisions.Layer;
@@ -14,29 +20,42 @@ import danogl.util.Vector2;
  * Class of the strategy that generates extra paddle.
  */
 public class ExtraPaddleStrategy implements CollisionStrategy{
-    private Paddle paddle;
     private final GameObjectCollection gameObjectCollection;
-    private final ImageReader imageReader;
+    private final WorldCommandBuffer commands;
+    private final AssetRegistry assets;
     private final WindowController windowController;
     private final UserInputListener inputListener;
     private final Counter paddleCounter;
+    private final PackBallSystem packBalls;
+    private final ObjectPool<Paddle> paddlePool;
+    private RenderClock renderClock;
+    private LifecycleManager lifecycle;
 
     /**
      * Constructor for the extra paddle strategy.
-     * @param gameObjectCollection The game's gameObjectCollection.
-     * @param imageReader The game's image reader.
+     * @param gameObjectCollection The game's gameObjectCollection, which worn out paddles
+     *                             remove themselves from.
+     * @param commands The buffer the brick's removal and the extra paddles are queued to.
+     * @param assets The game's asset registry.
      * @param windowController The game's window controller.
      * @param inputListener The game's input listener.
      * @param paddleCounter The game's paddle counter
+     * @param packBalls The system that holds the game's packs.
      */
-    public ExtraPaddleStrategy(GameObjectCollection gameObjectCollection, ImageReader imageReader,
+    public ExtraPaddleStrategy(GameObjectCollection gameObjectCollection, WorldCommandBuffer commands,
+                               AssetRegistry assets,
                                WindowController windowController,
-                               UserInputListener inputListener, Counter paddleCounter) {
+                               UserInputListener inputListener, Counter paddleCounter,
+                               PackBallSystem packBalls) {
         this.gameObjectCollection = gameObjectCollection;
-        this.imageReader = imageReader;
+        this.commands = commands;
+        this.assets = assets;
         this.windowController = windowController;
         this.inputListener = inputListener;
         this.paddleCounter = paddleCounter;
+        this.packBalls = packBalls;
+        this.paddlePool = new ObjectPool<>(Constants.ALLOWED_NUMBER_OF_PADDLES, this::createPaddle,
+                Paddle::reset, this::onRelease);
     }
 
     /**
@@ -46,15 +65,29 @@ public class ExtraPaddleStrategy implements CollisionStrategy{
      */
     @Override
     public void onCollision(GameObject objectOne, GameObject objectTwo) {
-        createPaddle();
-        if(paddle.getPaddleCounter().value() > Constants.ALLOWED_NUMBER_OF_PADDLES){
-            gameObjectCollection.removeGameObject(objectOne, Layer.DEFAULT);
-            paddle.getPaddleCounter().decrement();
+        commands.removeGameObject(objectOne, Constants.BRICK_LAYER);
+        if(paddleCounter.value() >= Constants.ALLOWED_NUMBER_OF_PADDLES){
+            return;
         }
-        else{
-            gameObjectCollection.addGameObject(paddle, Layer.DEFAULT);
-            gameObjectCollection.removeGameObject(objectOne, Layer.DEFAULT);
+        Vector2 windowDimensions = windowController.getWindowDimensions();
+        addPaddle(new Vector2(windowDimensions.x() / 2, windowDimensions.y() / 2));
+    }
+
+    /**
+     * Adding an extra paddle, regardless of how many paddles the game already has.
+     * @param topLeftCorner The position of the paddle.
+     * @return The paddle, which is queued to be added to the game.
+     */
+    public Paddle addPaddle(Vector2 topLeftCorner) {
+        Paddle paddle = paddlePool.acquire();
+        paddle.setTopLeftCorner(topLeftCorner);
+        paddle.snapRenderPosition();
+        commands.addGameObject(paddle, Layer.DEFAULT);
+        packBalls.addPaddle(paddle);
+        if (lifecycle != null) {
+            lifecycle.track(paddle, paddle::retire);
         }
+        return paddle;
     }
 
     /**
@@ -67,16 +100,55 @@ public class ExtraPaddleStrategy implements CollisionStrategy{
     }
 
     /**
-     * Creating another paddle.
+     * Setter for the clock the paddles created from now on are rendered by.
+     * @param renderClock The clock of the game's ticks.
+     */
+    public void setRenderClock(RenderClock renderClock) {
+        this.renderClock = renderClock;
+    }
+
+    /**
+     * Setter for the manager the paddles added from now on are tracked by.
+     * @param lifecycle The game's lifecycle manager.
+     */
+    public void setLifecycle(LifecycleManager lifecycle) {
+        this.lifecycle = lifecycle;
+    }
+
+    /**
+     * Getter for the pool of the extra paddles.
+     * @return The pool.
+     */
+    public ObjectPool<Paddle> getPaddlePool() {
+        return paddlePool;
+    }
+
+    /**
+     * Creating another paddle, which returns to the pool once it reaches its collision limit.
+     * Creating the paddle counts it as a paddle in the game.
+     * @return The created paddle.
      */
-    private void createPaddle(){
+    private Paddle createPaddle(){
         Vector2 windowDimensions = windowController.getWindowDimensions();
-        Renderable paddleRenderable = imageReader.readImage(Constants.PADDLE_IMAGE_PATH, true);
+        Renderable paddleRenderable = assets.getImage(Constants.PADDLE_IMAGE_PATH);
 
-        this.paddle = new Paddle(new Vector2(
-                windowDimensions.x() / 2, windowDimensions.y() / 2),
+        Paddle paddle = new Paddle(Vector2.ZERO,
                 new Vector2(Constants.PADDLE_WIDTH, Constants.PADDLE_HEIGHT), paddleRenderable,
                 inputListener, windowDimensions, Constants.EXTRA_PADDLE_COLLISION_LIMIT,
                 gameObjectCollection, paddleCounter);
+        paddle.setTag(Constants.EXTRA_PADDLE_TAG);
+        paddle.setPool(paddlePool);
+        paddle.interpolate(renderClock);
+        return paddle;
+    }
+
+    /**
+     * No longer tracking a paddle that was removed from the game.
+     * @param paddle The paddle.
+     */
+    private void onRelease(Paddle paddle) {
+        if (lifecycle != null) {
+            lifecycle.untrack(paddle);
+        }
     }
 }
\ No newline at end of file
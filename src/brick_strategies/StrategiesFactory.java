@@ -1,89 +1,182 @@
 package bricker.brick_strategies;
 
+import bricker.AssetRegistry;
+import bricker.Constants;
+import bricker.RandomStream;
+import bricker.RandomStreams;
+import bricker.WorldCommandBuffer;
+import bricker.gameobjects.LifecycleManager;
+import bricker.gameobjects.PackBallSystem;
+import bricker.gameobjects.RenderClock;
 import danogl.GameManager;
 import danogl.collisions.GameObjectCollection;
-import danogl.gui.ImageReader;
-import danogl.gui.SoundReader;
 import danogl.gui.UserInputListener;
 import danogl.gui.WindowController;
 import danogl.util.Counter;
-import java.util.Random;
 
 /**
  * Factory that handles the brick strategies.
  */
 public class StrategiesFactory {
-    private static GameObjectCollection gameObjectCollection;
-    private final GameManager gameManager;
-    private final ImageReader imageReader;
-    private final UserInputListener inputListener;
-    private final WindowController windowController;
-    private final SoundReader soundReader;
-    private final Counter livesCounter;
-    private final Counter paddleCounter;
+    // the special strategies a brick can get, besides a double strategy.
+    private static final int[] SPECIAL_CODES = {StrategyRegistry.EXTRA_HEART,
+            StrategyRegistry.EXTRA_PADDLE, StrategyRegistry.EXTRA_BALL, StrategyRegistry.CHANGE_CAMERA};
+    // the special strategies a double strategy can hold, besides another double strategy.
+    private static final int[] DOUBLE_COMPONENT_CODES = {StrategyRegistry.EXTRA_HEART,
+            StrategyRegistry.EXTRA_PADDLE, StrategyRegistry.EXTRA_BALL};
+
+    private final StrategyRegistry registry;
+    private final ExtraBallStrategy extraBallStrategy;
+    private final ExtraHeartStrategy extraHeartStrategy;
+    private final ExtraPaddleStrategy extraPaddleStrategy;
+    private RandomStream random;
 
     /**
      * Constructor for the factory.
      * @param gameManager The current game manager.
      * @param gameObjectCollection The game's gameObjectCollection.
-     * @param imageReader The game's image reader.
+     * @param commands The buffer the strategies queue their changes to the game to.
+     * @param assets The game's asset registry.
      * @param inputListener The game's input listener.
      * @param windowController The game's window controller.
-     * @param soundReader The game's sound reader.
      * @param livesCounter The game's lives counter.
      * @param paddleCounter The game's paddle counter.
+     * @param packBalls The system that holds the game's packs.
+     * @param randomStreams The random streams of the game.
      */
     public StrategiesFactory(GameManager gameManager, GameObjectCollection gameObjectCollection,
-                             ImageReader imageReader, UserInputListener inputListener,
-                             WindowController windowController, SoundReader soundReader,
-                             Counter livesCounter, Counter paddleCounter){
-
-        StrategiesFactory.gameObjectCollection = gameObjectCollection;
-        this.gameManager = gameManager;
-        this.imageReader = imageReader;
-        this.inputListener = inputListener;
-        this.windowController = windowController;
-        this.soundReader = soundReader;
-        this.livesCounter = livesCounter;
-        this.paddleCounter = paddleCounter;
+                             WorldCommandBuffer commands, AssetRegistry assets, UserInputListener inputListener,
+                             WindowController windowController,
+                             Counter livesCounter, Counter paddleCounter, PackBallSystem packBalls,
+                             RandomStreams randomStreams){
+
+        this.random = randomStreams.stream(Constants.BRICKS_RANDOM_STREAM);
+        this.extraBallStrategy = new ExtraBallStrategy(commands, packBalls,
+                randomStreams.stream(Constants.PACKS_RANDOM_STREAM));
+        this.extraHeartStrategy = new ExtraHeartStrategy(gameObjectCollection, commands, assets,
+                livesCounter);
+        this.extraPaddleStrategy = new ExtraPaddleStrategy(gameObjectCollection, commands, assets,
+                windowController, inputListener, paddleCounter, packBalls);
+        this.registry = new StrategyRegistry(
+                new BasicCollisionStrategy(commands),
+                extraHeartStrategy,
+                extraPaddleStrategy,
+                extraBallStrategy,
+                new ChangeCameraStrategy(commands, windowController, gameManager));
+    }
+
+    /**
+     * Drawing the strategies and the packs of a new game from its random streams, the same way
+     * a new factory would.
+     * @param randomStreams The random streams of the new game.
+     */
+    public void reseed(RandomStreams randomStreams){
+        random = randomStreams.stream(Constants.BRICKS_RANDOM_STREAM);
+        extraBallStrategy.setRandom(randomStreams.stream(Constants.PACKS_RANDOM_STREAM));
+    }
+
+    /**
+     * Setter for the clock the extra paddles and falling hearts are rendered by.
+     * @param renderClock The clock of the game's ticks.
+     */
+    public void setRenderClock(RenderClock renderClock){
+        extraHeartStrategy.setRenderClock(renderClock);
+        extraPaddleStrategy.setRenderClock(renderClock);
+    }
+
+    /**
+     * Setter for the manager the extra paddles and falling hearts are tracked by.
+     * @param lifecycle The game's lifecycle manager.
+     */
+    public void setLifecycle(LifecycleManager lifecycle){
+        extraHeartStrategy.setLifecycle(lifecycle);
+        extraPaddleStrategy.setLifecycle(lifecycle);
+    }
+
+    /**
+     * Getter for the random stream the bricks' strategies are rolled from.
+     * @return The random stream.
+     */
+    public RandomStream getRandom(){
+        return random;
+    }
+
+    /**
+     * Getter for the strategy that adds the extra balls, which holds the packs' random stream.
+     * @return The shared extra ball strategy.
+     */
+    public ExtraBallStrategy getExtraBallStrategy(){
+        return extraBallStrategy;
+    }
+
+    /**
+     * Getter for the strategy that drops the falling hearts.
+     * @return The shared extra heart strategy.
+     */
+    public ExtraHeartStrategy getExtraHeartStrategy(){
+        return extraHeartStrategy;
+    }
+
+    /**
+     * Getter for the strategy that adds the extra paddles.
+     * @return The shared extra paddle strategy.
+     */
+    public ExtraPaddleStrategy getExtraPaddleStrategy(){
+        return extraPaddleStrategy;
     }
 
     /**
      * Generates a collision strategy in a probabilistic way.
-     * @return The generated collision strategy.
+     * @return The generated collision strategy, shared with every brick of the same behavior.
      */
     public CollisionStrategy build(){
-        Random random = new Random();
-
-        // setting the strategies.
-        CollisionStrategy basic = new BasicCollisionStrategy(gameObjectCollection);
-        CollisionStrategy extraHeart = new ExtraHeartStrategy(gameObjectCollection,
-                imageReader, livesCounter);
-        CollisionStrategy extraPaddle = new ExtraPaddleStrategy(gameObjectCollection, imageReader,
-                windowController, inputListener, paddleCounter);
-        CollisionStrategy extraBall = new ExtraBallStrategy(gameObjectCollection, imageReader,
-                soundReader);
-        CollisionStrategy cameraChange = new ChangeCameraStrategy(gameObjectCollection,
-                windowController, gameManager);
-
-        // basic double strategy with all the potential special strategies.
-        CollisionStrategy doubleStrategy = new DoubleStrategy(new CollisionStrategy[]
-                {extraHeart, extraPaddle, extraBall}); // cameraChange
-
-        // making an array so that the double strategy could contain it-self.
-        CollisionStrategy[] specialStrategies = {extraHeart, extraPaddle, extraBall, doubleStrategy};
-
-        CollisionStrategy[] strategies = {
-                extraHeart,
-                extraPaddle,
-                extraBall,
-                cameraChange,
-                new DoubleStrategy(specialStrategies)
-        };
+        return registry.get(buildCode());
+    }
+
+    /**
+     * Getter for the shared collision strategy of a code.
+     * @param code The code of the strategy, see {@link StrategyRegistry}.
+     * @return The shared collision strategy.
+     */
+    public CollisionStrategy get(int code){
+        return registry.get(code);
+    }
 
+    /**
+     * Generates the code of a collision strategy in a probabilistic way.
+     * @return The code of the generated strategy, see {@link StrategyRegistry}.
+     */
+    public int buildCode(){
         if (random.nextBoolean()){
-            return strategies[random.nextInt(strategies.length)];
+            int special = random.nextInt(SPECIAL_CODES.length + 1);
+            return special == SPECIAL_CODES.length ? buildDoubleCode() : SPECIAL_CODES[special];
         }
-        return basic;
+        return StrategyRegistry.BASIC;
+    }
+
+    /**
+     * Generates the code of a double strategy, which may hold one more double strategy
+     * of two non-double special strategies.
+     * @return The code of the generated double strategy.
+     */
+    private int buildDoubleCode(){
+        int innerDouble = StrategyRegistry.doubleCode(pickDoubleComponent(), pickDoubleComponent());
+        int codeOne;
+        int codeTwo;
+        do {
+            codeOne = random.nextInt(DOUBLE_COMPONENT_CODES.length + 1);
+            codeTwo = random.nextInt(DOUBLE_COMPONENT_CODES.length + 1);
+        } while (codeOne == DOUBLE_COMPONENT_CODES.length && codeTwo == DOUBLE_COMPONENT_CODES.length);
+        return StrategyRegistry.doubleCode(
+                codeOne == DOUBLE_COMPONENT_CODES.length ? innerDouble : DOUBLE_COMPONENT_CODES[codeOne],
+                codeTwo == DOUBLE_COMPONENT_CODES.length ? innerDouble : DOUBLE_COMPONENT_CODES[codeTwo]);
+    }
+
+    /**
+     * Picks one of the special strategies a double strategy can hold.
+     * @return The code of the picked strategy.
+     */
+    private int pickDoubleComponent(){
+        return DOUBLE_COMPONENT_CODES[random.nextInt(DOUBLE_COMPONENT_CODES.length)];
     }
 }
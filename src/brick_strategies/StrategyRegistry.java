@@ -0,0 +1,137 @@
+package bricker.brick_strategies;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of shared collision strategy instances.
+ * The strategies hold no per-brick state, so every brick with the same behavior shares the same
+ * instance. A behavior is identified by a compact int code: the low bits hold the strategy kind,
+ * and a double strategy packs the codes of its two strategies above them.
+ */
+public class StrategyRegistry {
+    /**
+     * Code of the basic strategy.
+     */
+    public static final int BASIC = 0;
+
+    /**
+     * Code of the extra heart strategy.
+     */
+    public static final int EXTRA_HEART = 1;
+
+    /**
+     * Code of the extra paddle strategy.
+     */
+    public static final int EXTRA_PADDLE = 2;
+
+    /**
+     * Code of the extra ball strategy.
+     */
+    public static final int EXTRA_BALL = 3;
+
+    /**
+     * Code of the change camera strategy.
+     */
+    public static final int CHANGE_CAMERA = 4;
+
+    /**
+     * Kind of a double strategy, the codes of its strategies are packed above it.
+     */
+    public static final int DOUBLE = 5;
+
+    private static final int KIND_BITS = 3;
+    private static final int KIND_MASK = (1 << KIND_BITS) - 1;
+    // a slot holds the code of a double's strategy: a kind, or a double of two plain kinds.
+    private static final int SLOT_BITS = 3 * KIND_BITS;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+
+    private final CollisionStrategy[] simpleStrategies;
+    private final Map<Integer, CollisionStrategy> doubleStrategies;
+
+    /**
+     * Constructor.
+     * @param basic The shared basic strategy.
+     * @param extraHeart The shared extra heart strategy.
+     * @param extraPaddle The shared extra paddle strategy.
+     * @param extraBall The shared extra ball strategy.
+     * @param changeCamera The shared change camera strategy.
+     */
+    public StrategyRegistry(CollisionStrategy basic, CollisionStrategy extraHeart,
+                            CollisionStrategy extraPaddle, CollisionStrategy extraBall,
+                            CollisionStrategy changeCamera) {
+        this.simpleStrategies = new CollisionStrategy[]{basic, extraHeart, extraPaddle, extraBall,
+                changeCamera};
+        this.doubleStrategies = new HashMap<>();
+    }
+
+    /**
+     * Packs the code of a double strategy.
+     * @param codeOne The code of the first strategy.
+     * @param codeTwo The code of the second strategy.
+     * @return The code of the double strategy.
+     */
+    public static int doubleCode(int codeOne, int codeTwo) {
+        return DOUBLE | toSlot(codeOne) << KIND_BITS | toSlot(codeTwo) << (KIND_BITS + SLOT_BITS);
+    }
+
+    /**
+     * Packs a code into the slot of a double strategy.
+     * @param code The code of a plain strategy, or of a double of two plain strategies.
+     * @return The slot.
+     */
+    private static int toSlot(int code) {
+        int one = code >>> KIND_BITS & SLOT_MASK;
+        int two = code >>> (KIND_BITS + SLOT_BITS);
+        if (one > KIND_MASK || two > KIND_MASK) {
+            throw new IllegalArgumentException("double strategies nest at most one level deep");
+        }
+        return (code & KIND_MASK) | one << KIND_BITS | two << (2 * KIND_BITS);
+    }
+
+    /**
+     * Unpacks the code held in the slot of a double strategy.
+     * @param slot The slot.
+     * @return The code.
+     */
+    private static int fromSlot(int slot) {
+        return (slot & KIND_MASK) | (slot >>> KIND_BITS & KIND_MASK) << KIND_BITS
+                | (slot >>> (2 * KIND_BITS)) << (KIND_BITS + SLOT_BITS);
+    }
+
+    /**
+     * Checks if a code can be decoded into a strategy, the same way {@link #get} decodes it.
+     * @param code The code.
+     * @return True if the code is of a plain strategy, or of a double of valid codes.
+     */
+    public static boolean isValid(int code) {
+        int kind = code & KIND_MASK;
+        if (kind != DOUBLE) {
+            return kind < DOUBLE && code == kind;
+        }
+        return isValid(fromSlot(code >>> KIND_BITS & SLOT_MASK)) &&
+                isValid(fromSlot(code >>> (KIND_BITS + SLOT_BITS)));
+    }
+
+    /**
+     * Getter for the shared strategy of a code.
+     * @param code The code of the strategy.
+     * @return The shared strategy.
+     */
+    public CollisionStrategy get(int code) {
+        int kind = code & KIND_MASK;
+        if (kind != DOUBLE) {
+            if (kind >= simpleStrategies.length || code != kind) {
+                throw new IllegalArgumentException("invalid strategy code " + code);
+            }
+            return simpleStrategies[kind];
+        }
+        CollisionStrategy strategy = doubleStrategies.get(code);
+        if (strategy == null) {
+            strategy = new DoubleStrategy(get(fromSlot(code >>> KIND_BITS & SLOT_MASK)),
+                    get(fromSlot(code >>> (KIND_BITS + SLOT_BITS))));
+            doubleStrategies.put(code, strategy);
+        }
+        return strategy;
+    }
+}
@@ -1,18 +1,39 @@
 package bricker.gameobjects;
 
+import bricker.Constants;
+import bricker.SoundMixer;
 import danogl.GameObject;
-import danogl.collisions.Collision;
 import danogl.gui.Sound;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Class for the game's ball object.
+ * The ball collides by itself, the same way the packs do: it sweeps its box against the walls
+ * and the paddles, and collides with the bricks through the brick grid. A ball that moves farther
+ * than {@link Constants#MAX_STEP_DISTANCE} in a frame is moved in several steps.
  */
-public class Ball extends GameObject {
+public class Ball extends InterpolatedObject implements Categorized {
+    private static final int VELOCITY_CACHE_SIZE = 8;
+    // a ball wedged between surfaces could bounce back and forth without moving, so a step
+    // drops what is left of it after this many hits.
+    private static final int MAX_HITS_PER_STEP = 4;
+
     private final Sound collitionSound;
+    private SoundMixer soundMixer;
     private final Counter collisionCounter;
+    private BrickGrid brickGrid;
+    // velocities the ball bounced into, reused so that a bounce does not allocate.
+    private final Vector2[] velocityCache;
+    private int nextCacheSlot;
+    private int collisionCategory;
+    private final List<GameObject> walls;
+    private List<Paddle> paddles;
+    private final SweptAabb sweep;
 
     /**
      * Construct a new GameObject instance.
@@ -22,30 +43,204 @@ public class Ball extends GameObject {
      * @param dimensions    Width and height in window coordinates.
      * @param renderable    The renderable representing the object. Can be null, in which case
      *                      the GameObject will not be rendered.
+     * @param collitionSound The sound played on collision. Can be null, in which case
+     *                       no sound is played.
      */
     public Ball(Vector2 topLeftCorner, Vector2 dimensions,
                 Renderable renderable, Sound collitionSound) {
         super(topLeftCorner, dimensions, renderable);
         this.collitionSound = collitionSound;
         this.collisionCounter = new Counter(0);
+        this.velocityCache = new Vector2[VELOCITY_CACHE_SIZE];
+        this.walls = new ArrayList<>();
+        this.paddles = Collections.emptyList();
+        this.sweep = new SweptAabb();
+    }
+
+    /**
+     * Setting the ball's tag, and with it its collision category.
+     * @param tag The new tag.
+     */
+    @Override
+    public void setTag(String tag) {
+        super.setTag(tag);
+        collisionCategory = CollisionCategory.ofTag(tag, CollisionCategory.NONE);
+    }
+
+    /**
+     * Getter for the ball's collision category.
+     * @return {@link CollisionCategory#MAIN_BALL} for the main ball.
+     */
+    @Override
+    public int getCollisionCategory() {
+        return collisionCategory;
+    }
+
+    /**
+     * The ball collides through its own sweep only, never through the game object collection.
+     * @param other The other GameObject.
+     * @return False.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return false;
     }
 
     /**
-     * Setting the behavior when colliding something with this instance.
-     * @param other The GameObject with which a collision occurred.
-     * @param collision Information regarding this collision.
-     *                  A reasonable elastic behavior can be achieved with:
-     *                  setVelocity(getVelocity().flipped(collision.getNormal()));
+     * Moving the ball and colliding it with the walls, the paddles and the bricks, in as many
+     * steps as needed to not move farther than {@link Constants#MAX_STEP_DISTANCE} in a step.
+     * @param deltaTime The time elapsed, in seconds, since the last frame.
      */
     @Override
-    public void onCollisionEnter(GameObject other, Collision collision) {
-        super.onCollisionEnter(other, collision);
-        Vector2 newVel = getVelocity().flipped(collision.getNormal());
-        setVelocity(newVel);
-        collitionSound.play();
+    public void update(float deltaTime) {
+        Vector2 velocity = getVelocity();
+        float distance = (float) Math.sqrt(velocity.x() * velocity.x() + velocity.y() * velocity.y())
+                * deltaTime;
+        int steps = distance > Constants.MAX_STEP_DISTANCE ?
+                (int) Math.ceil(distance / Constants.MAX_STEP_DISTANCE) : 1;
+        for (int i = 0; i < steps; i++) {
+            step(deltaTime / steps);
+        }
+    }
+
+    /**
+     * Moving the ball for a single step, bouncing off every wall or paddle its box hits on the
+     * way, and then colliding with the bricks it overlaps.
+     * @param stepTime The time, in seconds, of the step.
+     */
+    private void step(float stepTime) {
+        float timeLeft = stepTime;
+        for (int hits = 0; timeLeft > 0 && hits < MAX_HITS_PER_STEP; hits++) {
+            timeLeft = moveToHit(timeLeft);
+        }
+        if (brickGrid != null) {
+            brickGrid.collide(this);
+        }
+    }
+
+    /**
+     * Moving the ball up to the first wall or paddle its box hits on the way, and bouncing off it.
+     * @param stepTime The time, in seconds, left of the step.
+     * @return The time, in seconds, left of the step after the hit, which the ball moves in the
+     *         bounced direction, or zero if it hit nothing.
+     */
+    private float moveToHit(float stepTime) {
+        Vector2 topLeft = getTopLeftCorner();
+        Vector2 dimensions = getDimensions();
+        Vector2 velocity = getVelocity();
+        float minX = topLeft.x();
+        float minY = topLeft.y();
+        float maxX = minX + dimensions.x();
+        float maxY = minY + dimensions.y();
+        float moveX = velocity.x() * stepTime;
+        float moveY = velocity.y() * stepTime;
+
+        float hitTime = 1;
+        boolean hitOnX = false;
+        GameObject hit = null;
+        for (int i = 0; i < walls.size(); i++) {
+            if (sweep.test(minX, minY, maxX, maxY, moveX, moveY, walls.get(i)) &&
+                    sweep.getTime() < hitTime) {
+                hitTime = sweep.getTime();
+                hitOnX = sweep.isHitOnX();
+                hit = walls.get(i);
+            }
+        }
+        for (int i = 0; i < paddles.size(); i++) {
+            Paddle paddle = paddles.get(i);
+            if (!paddle.isRemoved() && sweep.test(minX, minY, maxX, maxY, moveX, moveY, paddle) &&
+                    sweep.getTime() < hitTime) {
+                hitTime = sweep.getTime();
+                hitOnX = sweep.isHitOnX();
+                hit = paddle;
+            }
+        }
+
+        super.update(stepTime * hitTime);
+        if (hit == null) {
+            return 0;
+        }
+        bounce(hitOnX ? Vector2.RIGHT : Vector2.DOWN);
+        if (hit instanceof Paddle) {
+            ((Paddle) hit).registerHit();
+        }
+        return stepTime * (1 - hitTime);
+    }
+
+    /**
+     * Bouncing the ball off a surface.
+     * @param normal The normal of the surface the ball hit.
+     */
+    public void bounce(Vector2 normal) {
+        Vector2 velocity = getVelocity();
+        float dot = velocity.x() * normal.x() + velocity.y() * normal.y();
+        setVelocity(cachedVelocity(velocity.x() - 2 * dot * normal.x(),
+                velocity.y() - 2 * dot * normal.y()));
+        if (collitionSound != null) {
+            if (soundMixer != null) {
+                soundMixer.play(collitionSound);
+            }
+            else {
+                collitionSound.play();
+            }
+        }
         collisionCounter.increment();
     }
 
+    /**
+     * Looking up a velocity among the ones the ball already bounced into. A ball that bounces
+     * off axis aligned surfaces only ever has a few velocities, so after the first bounces no
+     * new velocity is allocated.
+     * @param velocityX The horizontal velocity.
+     * @param velocityY The vertical velocity.
+     * @return A vector with the given velocity.
+     */
+    private Vector2 cachedVelocity(float velocityX, float velocityY) {
+        for (Vector2 cached : velocityCache) {
+            if (cached != null && cached.x() == velocityX && cached.y() == velocityY) {
+                return cached;
+            }
+        }
+        Vector2 velocity = new Vector2(velocityX, velocityY);
+        velocityCache[nextCacheSlot] = velocity;
+        nextCacheSlot = (nextCacheSlot + 1) % VELOCITY_CACHE_SIZE;
+        return velocity;
+    }
+
+    /**
+     * Adding a wall the ball bounces off.
+     * @param wall The wall.
+     */
+    public void addWall(GameObject wall) {
+        walls.add(wall);
+    }
+
+    /**
+     * Setter for the paddles the ball bounces off.
+     * @param paddles The game's paddles. The list is read on every step, so paddles added to it
+     *                later are bounced off too.
+     */
+    public void setPaddles(List<Paddle> paddles) {
+        this.paddles = paddles;
+    }
+
+    /**
+     * Setter for the mixer the ball's collision sound is played through.
+     * @param soundMixer The game's sound mixer. Can be null, in which case the sound is played
+     *                   directly.
+     */
+    public void setSoundMixer(SoundMixer soundMixer) {
+        this.soundMixer = soundMixer;
+    }
+
+    /**
+     * Setter for the grid of bricks the ball collides with.
+     * @param brickGrid The game's brick grid.
+     */
+    public void setBrickGrid(BrickGrid brickGrid) {
+        this.brickGrid = brickGrid;
+    }
+
     /**
      * Getter function for the balls collision counter.
      * @return The number of collision since it was made.
@@ -60,4 +255,13 @@ public class Ball extends GameObject {
     public void setCollisionCounter() {
         collisionCounter.reset();
     }
+
+    /**
+     * Setter function for the balls collision counter, for a ball restored from a snapshot.
+     * @param collisions The number of collisions.
+     */
+    public void setCollisionCounter(int collisions) {
+        collisionCounter.reset();
+        collisionCounter.increaseBy(collisions);
+    }
 }
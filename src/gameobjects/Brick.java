@@ -1,5 +1,6 @@
 package bricker.gameobjects;
 
+import bricker.WorldCommandBuffer;
 import bricker.brick_strategies.CollisionStrategy;
 import danogl.GameObject;
 import danogl.collisions.Collision;
@@ -11,9 +12,10 @@ import danogl.util.Vector2;
  * Class for the game's brick object.
  */
 public class Brick extends GameObject {
-    private final CollisionStrategy strategy;
+    private CollisionStrategy strategy;
 
     private final Counter totalBricksCounter;
+    private final WorldCommandBuffer commands;
 
     /**
      * Construct a new GameObject instance.
@@ -23,12 +25,16 @@ public class Brick extends GameObject {
      * @param dimensions    Width and height in window coordinates.
      * @param renderable    The renderable representing the object. Can be null, in which case
      *                      the GameObject will not be rendered.
+     * @param strategy      The strategy activated when the brick is hit.
+     * @param totalBricksCounter The counter of the bricks left in the game.
+     * @param commands      The buffer the brick's removal and count are queued to.
      */
     public Brick(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable
-            , CollisionStrategy strategy, Counter totalBricksCounter) {
+            , CollisionStrategy strategy, Counter totalBricksCounter, WorldCommandBuffer commands) {
         super(topLeftCorner, dimensions, renderable);
         this.strategy = strategy;
         this.totalBricksCounter = totalBricksCounter;
+        this.commands = commands;
     }
 
     /**
@@ -41,7 +47,27 @@ public class Brick extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
+        hit(other);
+    }
+
+    /**
+     * Setter for the strategy of a brick that is reused for a new board.
+     * @param strategy The strategy activated when the brick is hit.
+     */
+    public void setStrategy(CollisionStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Activating the brick's strategy when something hits it, and queueing the brick to be
+     * counted out of the game. A brick already queued for removal in this frame ignores the hit.
+     * @param other The GameObject that hit the brick.
+     */
+    public void hit(GameObject other) {
+        if (commands.isRemoving(this)) {
+            return;
+        }
         strategy.onCollision(this, other);
-        totalBricksCounter.decrement();
+        commands.decrement(totalBricksCounter);
     }
 }
@@ -0,0 +1,281 @@
+package bricker.gameobjects;
+
+import bricker.Constants;
+import danogl.GameObject;
+import danogl.util.Vector2;
+import java.util.function.IntConsumer;
+
+/**
+ * Uniform grid that holds the game's bricks by row and column.
+ * The bricks are placed on an exact grid, so a ball's bounding box maps to the few cells it
+ * overlaps in constant time, no matter how many bricks the board holds. A cell is cleared as
+ * soon as its brick is hit, since every brick strategy removes the brick it was hit on, and a
+ * listener can be told about every cell whose brick changed.
+ */
+public class BrickGrid {
+    /**
+     * Returned by a collision that flips the horizontal velocity.
+     */
+    public static final int FLIP_X = 1;
+
+    /**
+     * Returned by a collision that flips the vertical velocity.
+     */
+    public static final int FLIP_Y = 2;
+
+    private final int rows;
+    private final int columns;
+    private final float originX;
+    private final float originY;
+    private final float brickWidth;
+    private final float brickHeight;
+    private final float pitchX;
+    private final float pitchY;
+    private final Brick[] cells;
+    private IntConsumer cellListener;
+
+    /**
+     * Constructor.
+     * @param rows The number of brick rows.
+     * @param columns The number of bricks in a row.
+     * @param top The y coordinate above the first row, before its margin.
+     * @param brickWidth The width of a brick.
+     * @param brickHeight The height of a brick.
+     * @param marginX The horizontal space before every brick.
+     * @param marginY The vertical space above every brick.
+     */
+    public BrickGrid(int rows, int columns, float top, float brickWidth, float brickHeight,
+                     float marginX, float marginY) {
+        this.rows = rows;
+        this.columns = columns;
+        this.originX = marginX;
+        this.originY = top + marginY;
+        this.brickWidth = brickWidth;
+        this.brickHeight = brickHeight;
+        this.pitchX = brickWidth + marginX;
+        this.pitchY = brickHeight + marginY;
+        this.cells = new Brick[rows * columns];
+    }
+
+    /**
+     * Lays out a board of bricks across the window, between the side walls and below the top wall.
+     * @param rows The number of brick rows.
+     * @param columns The number of bricks in a row.
+     * @param windowWidth The width of the window.
+     * @return The grid of the board.
+     */
+    public static BrickGrid forWindow(int rows, int columns, float windowWidth) {
+        int brickWidth = (int) ((windowWidth -
+                2* ( Constants.WALL_THICKNESS + Constants.BUFFER_BETWEEN_BRICKS)) /
+                                (columns + Constants.BRICK_SPACER));
+        float totalBrickWidth = brickWidth * columns;
+        float totalMarginWidth = windowWidth - totalBrickWidth;
+        float marginX = totalMarginWidth / (columns + Constants.WALL_SPACER);
+        float marginY = Constants.BUFFER_BETWEEN_BRICKS;
+        return new BrickGrid(rows, columns, Constants.WALL_THICKNESS, brickWidth,
+                Constants.BRICK_HEIGHT, marginX, marginY);
+    }
+
+    /**
+     * @return The number of brick rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return The number of bricks in a row.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return The y coordinate above the first row, before its margin.
+     */
+    public float getTop() {
+        return originY - getMarginY();
+    }
+
+    /**
+     * @return The horizontal space before every brick.
+     */
+    public float getMarginX() {
+        return pitchX - brickWidth;
+    }
+
+    /**
+     * @return The vertical space above every brick.
+     */
+    public float getMarginY() {
+        return pitchY - brickHeight;
+    }
+
+    /**
+     * @return The height of the board, from its top to the bottom of its last row.
+     */
+    public float getHeight() {
+        return rows * pitchY;
+    }
+
+    /**
+     * Setter for the listener told about the cells whose brick changed.
+     * @param cellListener The listener, which accepts the index of a cell, row by row, every time
+     *                     a brick is placed in the cell or taken out of it. Can be null.
+     */
+    public void setCellListener(IntConsumer cellListener) {
+        this.cellListener = cellListener;
+    }
+
+    /**
+     * Getter for the position of a cell.
+     * @param row The row of the cell.
+     * @param column The column of the cell.
+     * @return The top left corner of the brick in the cell.
+     */
+    public Vector2 getCellTopLeftCorner(int row, int column) {
+        return new Vector2(originX + column * pitchX, originY + row * pitchY);
+    }
+
+    /**
+     * Getter for the dimensions of a brick in the grid.
+     * @return The width and height of a brick.
+     */
+    public Vector2 getBrickDimensions() {
+        return new Vector2(brickWidth, brickHeight);
+    }
+
+    /**
+     * Placing a brick in a cell.
+     * @param row The row of the cell.
+     * @param column The column of the cell.
+     * @param brick The brick.
+     */
+    public void add(int row, int column, Brick brick) {
+        add(row * columns + column, brick);
+    }
+
+    /**
+     * Getter for the brick in a cell.
+     * @param row The row of the cell.
+     * @param column The column of the cell.
+     * @return The brick, or null if the cell is empty or its brick was hit.
+     */
+    public Brick get(int row, int column) {
+        return cells[row * columns + column];
+    }
+
+    /**
+     * Placing a brick in a cell, by the cell's index.
+     * @param cell The index of the cell, row by row: row * columns + column.
+     * @param brick The brick, or null to clear the cell.
+     */
+    public void add(int cell, Brick brick) {
+        cells[cell] = brick;
+        cellChanged(cell);
+    }
+
+    /**
+     * Getter for the brick in a cell, by the cell's index.
+     * @param cell The index of the cell, row by row: row * columns + column.
+     * @return The brick, or null if the cell is empty or its brick was hit.
+     */
+    public Brick get(int cell) {
+        return cells[cell];
+    }
+
+    /**
+     * Colliding a ball with the bricks in the cells its bounding box overlaps.
+     * @param ball The ball.
+     */
+    public void collide(Ball ball) {
+        Vector2 topLeft = ball.getTopLeftCorner();
+        Vector2 dimensions = ball.getDimensions();
+        Vector2 velocity = ball.getVelocity();
+        int flips = collide(topLeft.x(), topLeft.y(), topLeft.x() + dimensions.x(),
+                topLeft.y() + dimensions.y(), velocity.x(), velocity.y(), ball);
+        if ((flips & FLIP_X) != 0) {
+            ball.bounce(Vector2.RIGHT);
+        }
+        if ((flips & FLIP_Y) != 0) {
+            ball.bounce(Vector2.DOWN);
+        }
+    }
+
+    /**
+     * Colliding a bounding box with the bricks in the cells it overlaps, hitting every brick
+     * it touches. The box bounces at most once per axis, and only if it moves into the brick
+     * it hit.
+     * @param minX The left edge of the box.
+     * @param minY The top edge of the box.
+     * @param maxX The right edge of the box.
+     * @param maxY The bottom edge of the box.
+     * @param velocityX The horizontal velocity of the box.
+     * @param velocityY The vertical velocity of the box.
+     * @param hitter The object the bricks' strategies see as the one that hit them.
+     * @return A combination of {@link #FLIP_X} and {@link #FLIP_Y}, the velocity components
+     *         that should be flipped.
+     */
+    public int collide(float minX, float minY, float maxX, float maxY,
+                       float velocityX, float velocityY, GameObject hitter) {
+        int firstColumn = Math.max(cellOf(minX, originX, pitchX), 0);
+        int lastColumn = Math.min(cellOf(maxX, originX, pitchX), columns - 1);
+        int firstRow = Math.max(cellOf(minY, originY, pitchY), 0);
+        int lastRow = Math.min(cellOf(maxY, originY, pitchY), rows - 1);
+
+        int flips = 0;
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int index = row * columns + column;
+                Brick brick = cells[index];
+                if (brick == null) {
+                    continue;
+                }
+                float brickMinX = originX + column * pitchX;
+                float brickMinY = originY + row * pitchY;
+                float overlapX = Math.min(maxX, brickMinX + brickWidth) - Math.max(minX, brickMinX);
+                float overlapY = Math.min(maxY, brickMinY + brickHeight) - Math.max(minY, brickMinY);
+                if (overlapX <= 0 || overlapY <= 0) {
+                    continue;
+                }
+                cells[index] = null;
+                cellChanged(index);
+                if (overlapX < overlapY) {
+                    boolean brickOnRight = brickMinX + brickWidth / 2 > (minX + maxX) / 2;
+                    if ((flips & FLIP_X) == 0 && velocityX > 0 == brickOnRight) {
+                        flips |= FLIP_X;
+                    }
+                }
+                else {
+                    boolean brickBelow = brickMinY + brickHeight / 2 > (minY + maxY) / 2;
+                    if ((flips & FLIP_Y) == 0 && velocityY > 0 == brickBelow) {
+                        flips |= FLIP_Y;
+                    }
+                }
+                brick.hit(hitter);
+            }
+        }
+        return flips;
+    }
+
+    /**
+     * Telling the listener, if there is one, that the brick of a cell changed.
+     * @param cell The index of the cell.
+     */
+    private void cellChanged(int cell) {
+        if (cellListener != null) {
+            cellListener.accept(cell);
+        }
+    }
+
+    /**
+     * Maps a coordinate to the index of the grid cell that holds it.
+     * @param coordinate The coordinate.
+     * @param origin The coordinate where the first cell starts.
+     * @param pitch The distance between the starts of two neighbouring cells.
+     * @return The index of the cell, negative before the first cell.
+     */
+    private static int cellOf(float coordinate, float origin, float pitch) {
+        return (int) Math.floor((coordinate - origin) / pitch);
+    }
+}
@@ -0,0 +1,182 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Layer that renders all the bricks of a grid as a single game object.
+ * Bricks never move, so instead of drawing every brick in every frame, the layer draws the board
+ * once into an offscreen image and then renders the whole board with one blit of the image. The
+ * grid tells the layer about every cell whose brick was hit or put back, and only those cells are
+ * drawn again, so a frame costs the bricks that changed since the last one, not the bricks on the
+ * board.
+ */
+public class BrickLayer extends GameObject {
+    private final BrickGrid brickGrid;
+    private final Renderable brickImage;
+    private final float top;
+    private final Vector2 brickDimensions;
+    private final boolean[] dirty;
+    private final int[] dirtyCells;
+    private int dirtyCount;
+    private BufferedImage cache;
+
+    /**
+     * Constructor.
+     * @param brickGrid The grid of the bricks, whose changed cells the layer draws again.
+     * @param width The width of the world the board spans.
+     * @param brickImage The image of a brick. Can be null, in which case the bricks are not
+     *                   rendered and the layer does not follow the grid's changes.
+     */
+    public BrickLayer(BrickGrid brickGrid, float width, Renderable brickImage) {
+        super(new Vector2(0, brickGrid.getTop()), new Vector2(width, brickGrid.getHeight()), null);
+        this.brickGrid = brickGrid;
+        this.brickImage = brickImage;
+        this.top = brickGrid.getTop();
+        this.brickDimensions = brickGrid.getBrickDimensions();
+        int cells = brickGrid.getRows() * brickGrid.getColumns();
+        if (brickImage == null) {
+            this.dirty = new boolean[0];
+            this.dirtyCells = new int[0];
+            return;
+        }
+        this.dirty = new boolean[cells];
+        this.dirtyCells = new int[cells];
+        brickGrid.setCellListener(this::invalidate);
+        renderer().setRenderable(new CacheRenderable());
+    }
+
+    /**
+     * Marking a cell to be drawn again in the next frame.
+     * @param cell The index of the cell, row by row.
+     */
+    public void invalidate(int cell) {
+        if (dirty[cell]) {
+            return;
+        }
+        dirty[cell] = true;
+        dirtyCells[dirtyCount++] = cell;
+    }
+
+    /**
+     * Drawing the whole board into a new offscreen image.
+     * @param g The graphics the image is rendered to, whose device the image is made for.
+     */
+    private void drawBoard(Graphics2D g) {
+        cache = g.getDeviceConfiguration().createCompatibleImage(
+                (int) Math.ceil(getDimensions().x()), (int) Math.ceil(getDimensions().y()),
+                Transparency.TRANSLUCENT);
+        Graphics2D cacheGraphics = cache.createGraphics();
+        for (int row = 0; row < brickGrid.getRows(); row++) {
+            for (int column = 0; column < brickGrid.getColumns(); column++) {
+                if (brickGrid.get(row, column) != null) {
+                    drawBrick(cacheGraphics, row, column);
+                }
+            }
+        }
+        cacheGraphics.dispose();
+        clearDirtyCells();
+    }
+
+    /**
+     * Drawing the cells that changed since the last frame into the offscreen image.
+     */
+    private void drawDirtyCells() {
+        if (dirtyCount == 0) {
+            return;
+        }
+        Graphics2D cacheGraphics = cache.createGraphics();
+        for (int i = 0; i < dirtyCount; i++) {
+            drawCell(cacheGraphics, dirtyCells[i]);
+        }
+        cacheGraphics.dispose();
+        clearDirtyCells();
+    }
+
+    /**
+     * Unmarking all the marked cells.
+     */
+    private void clearDirtyCells() {
+        for (int i = 0; i < dirtyCount; i++) {
+            dirty[dirtyCells[i]] = false;
+        }
+        dirtyCount = 0;
+    }
+
+    /**
+     * Clearing the pixels of a cell and drawing them again from the bricks in the grid.
+     * @param cacheGraphics The graphics of the offscreen image.
+     * @param cell The index of the cell, row by row.
+     */
+    private void drawCell(Graphics2D cacheGraphics, int cell) {
+        int row = cell / brickGrid.getColumns();
+        int column = cell % brickGrid.getColumns();
+        Vector2 corner = brickGrid.getCellTopLeftCorner(row, column);
+        int minX = (int) Math.floor(corner.x());
+        int minY = (int) Math.floor(corner.y() - top);
+        int maxX = (int) Math.ceil(corner.x() + brickDimensions.x());
+        int maxY = (int) Math.ceil(corner.y() - top + brickDimensions.y());
+        cacheGraphics.setClip(minX, minY, maxX - minX, maxY - minY);
+        cacheGraphics.setComposite(AlphaComposite.Clear);
+        cacheGraphics.fillRect(minX, minY, maxX - minX, maxY - minY);
+        cacheGraphics.setComposite(AlphaComposite.SrcOver);
+        // a margin thinner than a pixel lets the neighbouring bricks share the cell's edge
+        // pixels, so they are drawn again, clipped to the cell.
+        int lastRow = Math.min(row + 1, brickGrid.getRows() - 1);
+        int lastColumn = Math.min(column + 1, brickGrid.getColumns() - 1);
+        for (int r = Math.max(row - 1, 0); r <= lastRow; r++) {
+            for (int c = Math.max(column - 1, 0); c <= lastColumn; c++) {
+                if (brickGrid.get(r, c) != null) {
+                    drawBrick(cacheGraphics, r, c);
+                }
+            }
+        }
+        cacheGraphics.setClip(null);
+    }
+
+    /**
+     * Drawing a brick into the offscreen image.
+     * @param cacheGraphics The graphics of the offscreen image.
+     * @param row The row of the brick.
+     * @param column The column of the brick.
+     */
+    private void drawBrick(Graphics2D cacheGraphics, int row, int column) {
+        Vector2 corner = brickGrid.getCellTopLeftCorner(row, column);
+        brickImage.render(cacheGraphics, new Vector2(corner.x(), corner.y() - top), brickDimensions,
+                0, false, false, 1);
+    }
+
+    /**
+     * Renders the board from the offscreen image, after drawing its changed cells into it.
+     */
+    private class CacheRenderable implements Renderable {
+        @Override
+        public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions,
+                           double degreesCounterClockwise, boolean isFlippedHorizontally,
+                           boolean isFlippedVertically, double opaqueness) {
+            if (cache == null) {
+                drawBoard(g);
+            }
+            else {
+                drawDirtyCells();
+            }
+            Composite composite = g.getComposite();
+            if (opaqueness < 1) {
+                g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
+                        (float) opaqueness));
+            }
+            // the image is as large as the board in the world, and is scaled to the board on the
+            // screen.
+            g.drawImage(cache, Math.round(topLeftCorner.x()), Math.round(topLeftCorner.y()),
+                    Math.round(dimensions.x() * cache.getWidth() / getDimensions().x()),
+                    Math.round(dimensions.y() * cache.getHeight() / getDimensions().y()), null);
+            g.setComposite(composite);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package bricker.gameobjects;
+
+/**
+ * A game object that belongs to a collision category, see {@link CollisionCategory}.
+ */
+public interface Categorized {
+    /**
+     * Getter for the object's collision category.
+     * @return A single {@link CollisionCategory} bit.
+     */
+    int getCollisionCategory();
+}
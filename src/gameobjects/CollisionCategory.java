@@ -0,0 +1,84 @@
+package bricker.gameobjects;
+
+import bricker.Constants;
+import danogl.GameObject;
+
+/**
+ * The collision categories of the game objects, one bit each.
+ * An object's category is precomputed from its tag once, when the tag is set, and an object
+ * decides whether it collides with another by a single AND of the other's category with its
+ * own mask of categories, instead of comparing tags in every candidate pair.
+ */
+public final class CollisionCategory {
+    /**
+     * The category of an object that is not categorized, like a wall or a brick.
+     */
+    public static final int NONE = 0;
+
+    /**
+     * The category of the main ball.
+     */
+    public static final int MAIN_BALL = 1;
+
+    /**
+     * The category of the packs.
+     */
+    public static final int PACK_BALL = 1 << 1;
+
+    /**
+     * The category of the user's paddle.
+     */
+    public static final int MAIN_PADDLE = 1 << 2;
+
+    /**
+     * The category of the extra paddles.
+     */
+    public static final int EXTRA_PADDLE = 1 << 3;
+
+    /**
+     * The category of the falling hearts.
+     */
+    public static final int FALLING_HEART = 1 << 4;
+
+    /**
+     * The categories of all the balls.
+     */
+    public static final int BALLS = MAIN_BALL | PACK_BALL;
+
+    /**
+     * Default constructor for the collision category class.
+     */
+    private CollisionCategory() {}
+
+    /**
+     * Getter for the category of any game object.
+     * @param object The object.
+     * @return The object's category, or {@link #NONE} if it is not categorized.
+     */
+    public static int of(GameObject object) {
+        return object instanceof Categorized ? ((Categorized) object).getCollisionCategory() : NONE;
+    }
+
+    /**
+     * Maps a tag to its category.
+     * @param tag One of the object tags in {@link Constants}.
+     * @param otherwise The category of any other tag.
+     * @return The tag's category.
+     */
+    public static int ofTag(String tag, int otherwise) {
+        switch (tag) {
+            case Constants.MAIN_BALL_TAG:
+                return MAIN_BALL;
+            case Constants.PACK_BALL_TAG:
+                return PACK_BALL;
+            case Constants.MAIN_PADDLE_TAG:
+                return MAIN_PADDLE;
+            case Constants.FALLING_HEART_TAG:
+                return FALLING_HEART;
+            case Constants.EXTRA_PADDLE_TAG:
+                return EXTRA_PADDLE;
+            default:
+                return otherwise;
+        }
+    }
+}
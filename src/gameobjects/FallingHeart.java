@@ -11,9 +11,10 @@ import danogl.util.Vector2;
 /**
  * Class of the game's falling heart object.
  */
-public class FallingHeart extends GameObject {
+public class FallingHeart extends InterpolatedObject implements Categorized {
     private final Counter livesCounter;
     private final GameObjectCollection gameObjectCollection;
+    private ObjectPool<FallingHeart> pool;
 
     /**
      * Construct a new GameObject instance.
@@ -38,7 +39,16 @@ public class FallingHeart extends GameObject {
      */
     @Override
     public boolean shouldCollideWith(GameObject other) {
-        return other.getTag().equals(Constants.MAIN_PADDLE_TAG);
+        return (CollisionCategory.of(other) & CollisionCategory.MAIN_PADDLE) != 0;
+    }
+
+    /**
+     * Getter for the heart's collision category.
+     * @return {@link CollisionCategory#FALLING_HEART}.
+     */
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.FALLING_HEART;
     }
 
     /**
@@ -52,13 +62,30 @@ public class FallingHeart extends GameObject {
     public void onCollisionEnter(GameObject other, Collision collision) {
         if (livesCounter.value() < Constants.MAXIMAL_NUMBER_LIVES) {
             super.onCollisionEnter(other, collision);
-            gameObjectCollection.removeGameObject(this);
             livesCounter.increment();
         }
         else{
             super.onCollisionEnter(other, collision);
-            gameObjectCollection.removeGameObject(this);
         }
+        retire();
+    }
+
+    /**
+     * Removing the heart from the game and returning it to its pool.
+     */
+    public void retire() {
+        gameObjectCollection.removeGameObject(this);
+        if (pool != null) {
+            pool.release(this);
+        }
+    }
+
+    /**
+     * Setter for the pool the heart returns to once it is removed from the game.
+     * @param pool The pool.
+     */
+    public void setPool(ObjectPool<FallingHeart> pool) {
+        this.pool = pool;
     }
 
 }
@@ -0,0 +1,99 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+import java.awt.Graphics2D;
+
+/**
+ * A game object that moves in the game's fixed ticks, and is rendered between the positions it
+ * had at the last two ticks, so it moves smoothly at any frame rate. The object keeps the
+ * position it starts every tick from, and an object that was not moved by the last tick, such as
+ * one just added to the game, is rendered where it is.
+ */
+public class InterpolatedObject extends GameObject {
+    private final Renderable renderable;
+    private RenderClock renderClock;
+    private float previousX;
+    private float previousY;
+    private long previousTick = -1;
+
+    /**
+     * Construct a new GameObject instance.
+     *
+     * @param topLeftCorner Position of the object, in window coordinates (pixels).
+     *                      Note that (0,0) is the top-left corner of the window.
+     * @param dimensions    Width and height in window coordinates.
+     * @param renderable    The renderable representing the object. Can be null, in which case
+     *                      the GameObject will not be rendered.
+     */
+    public InterpolatedObject(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable) {
+        super(topLeftCorner, dimensions, renderable);
+        this.renderable = renderable;
+    }
+
+    /**
+     * Rendering the object between its positions of the last two ticks, from now on.
+     * @param renderClock The clock of the game's ticks. Can be null, in which case the object is
+     *                    rendered where it is.
+     */
+    public void interpolate(RenderClock renderClock) {
+        this.renderClock = renderClock;
+        if (renderClock != null && renderable != null) {
+            renderer().setRenderable(new InterpolatedRenderable());
+        }
+    }
+
+    /**
+     * Keeping the position the object starts the tick from, and moving it.
+     * @param deltaTime The time elapsed, in seconds, since the last frame.
+     */
+    @Override
+    public void update(float deltaTime) {
+        // an object that moves in several steps keeps only the position of the first.
+        if (renderClock != null && previousTick != renderClock.getTick()) {
+            snapRenderPosition();
+        }
+        super.update(deltaTime);
+    }
+
+    /**
+     * Rendering the object where it is until its next tick, after it was moved by other means
+     * than a tick, so it is not rendered sliding to its new position.
+     */
+    public void snapRenderPosition() {
+        if (renderClock == null) {
+            return;
+        }
+        Vector2 topLeft = getTopLeftCorner();
+        previousX = topLeft.x();
+        previousY = topLeft.y();
+        previousTick = renderClock.getTick();
+    }
+
+    /**
+     * Renders the object's renderable shifted back from the object's position toward its
+     * position at the previous tick, mapping the shift into the area the object is rendered to,
+     * so the camera applies to it too.
+     */
+    private class InterpolatedRenderable implements Renderable {
+        @Override
+        public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions,
+                           double degreesCounterClockwise, boolean isFlippedHorizontally,
+                           boolean isFlippedVertically, double opaqueness) {
+            Vector2 renderedTopLeft = topLeftCorner;
+            if (previousTick == renderClock.getTick()) {
+                Vector2 topLeft = getTopLeftCorner();
+                Vector2 worldDimensions = getDimensions();
+                float back = 1 - renderClock.getAlpha();
+                renderedTopLeft = new Vector2(
+                        topLeftCorner.x() + (previousX - topLeft.x()) * back *
+                                dimensions.x() / worldDimensions.x(),
+                        topLeftCorner.y() + (previousY - topLeft.y()) * back *
+                                dimensions.y() / worldDimensions.y());
+            }
+            renderable.render(g, renderedTopLeft, dimensions, degreesCounterClockwise,
+                    isFlippedHorizontally, isFlippedVertically, opaqueness);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.util.Counter;
+import danogl.util.Vector2;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntSupplier;
+
+/**
+ * Manager of the lifecycle of the game's dynamic objects.
+ * An object the game adds while it plays is tracked from the moment it is added, and every tick
+ * the manager despawns the tracked objects that left the world, firing the hook they were tracked
+ * with, which removes the object from the game. Without it, a heart the paddle missed would keep
+ * falling, and updating and colliding, forever. The manager also counts the live objects of every
+ * tag, including the members of systems that hold their own objects, such as the packs.
+ */
+public class LifecycleManager {
+    private final float worldWidth;
+    private final float worldHeight;
+    private final List<GameObject> objects;
+    private final List<Runnable> despawnHooks;
+    private final Map<String, Counter> liveCounts;
+    private final Map<String, IntSupplier> systemCounts;
+    private int despawned;
+
+    /**
+     * Constructor.
+     * @param worldDimensions The dimensions of the world the objects are kept in.
+     */
+    public LifecycleManager(Vector2 worldDimensions) {
+        this.worldWidth = worldDimensions.x();
+        this.worldHeight = worldDimensions.y();
+        this.objects = new ArrayList<>();
+        this.despawnHooks = new ArrayList<>();
+        this.liveCounts = new TreeMap<>();
+        this.systemCounts = new TreeMap<>();
+    }
+
+    /**
+     * Tracking an object that was added to the game, and counting it under its tag.
+     * @param gameObject The object.
+     * @param onDespawn The hook fired when the object leaves the world, which removes it from the
+     *                  game.
+     */
+    public void track(GameObject gameObject, Runnable onDespawn) {
+        objects.add(gameObject);
+        despawnHooks.add(onDespawn);
+        liveCounts.computeIfAbsent(gameObject.getTag(), tag -> new Counter(0)).increment();
+    }
+
+    /**
+     * No longer tracking an object that was removed from the game. An object that is not tracked
+     * is ignored.
+     * @param gameObject The object.
+     */
+    public void untrack(GameObject gameObject) {
+        int index = objects.indexOf(gameObject);
+        if (index >= 0) {
+            remove(index);
+        }
+    }
+
+    /**
+     * Counting the members of a system that holds its own objects, and removes them itself once
+     * they leave the world.
+     * @param tag The tag the members are counted under.
+     * @param count Supplies the number of members.
+     */
+    public void countSystem(String tag, IntSupplier count) {
+        systemCounts.put(tag, count);
+    }
+
+    /**
+     * Despawning every tracked object that is entirely outside the world.
+     */
+    public void update() {
+        // the objects are removed by swapping the last one into their slot, so going backwards
+        // checks every object once.
+        for (int i = objects.size() - 1; i >= 0; i--) {
+            if (i < objects.size() && isOutside(objects.get(i))) {
+                Runnable onDespawn = despawnHooks.get(i);
+                remove(i);
+                despawned++;
+                onDespawn.run();
+            }
+        }
+    }
+
+    /**
+     * Getter for the number of live objects of a tag.
+     * @param tag The tag.
+     * @return The number of tracked objects with the tag, or of members of the system counted
+     *         under it.
+     */
+    public int getLiveCount(String tag) {
+        IntSupplier systemCount = systemCounts.get(tag);
+        if (systemCount != null) {
+            return systemCount.getAsInt();
+        }
+        Counter liveCount = liveCounts.get(tag);
+        return liveCount == null ? 0 : liveCount.value();
+    }
+
+    /**
+     * @return The number of objects that were despawned since they left the world.
+     */
+    public int getDespawned() {
+        return despawned;
+    }
+
+    /**
+     * Checks if an object is entirely outside the world.
+     * @param gameObject The object.
+     * @return True if no part of the object is inside the world.
+     */
+    private boolean isOutside(GameObject gameObject) {
+        Vector2 topLeft = gameObject.getTopLeftCorner();
+        Vector2 dimensions = gameObject.getDimensions();
+        return topLeft.x() > worldWidth || topLeft.x() + dimensions.x() < 0 ||
+                topLeft.y() > worldHeight || topLeft.y() + dimensions.y() < 0;
+    }
+
+    /**
+     * Removing a tracked object, moving the last one into its slot, and counting it out of its
+     * tag.
+     * @param index The index of the object.
+     */
+    private void remove(int index) {
+        GameObject gameObject = objects.get(index);
+        int last = objects.size() - 1;
+        objects.set(index, objects.get(last));
+        despawnHooks.set(index, despawnHooks.get(last));
+        objects.remove(last);
+        despawnHooks.remove(last);
+        liveCounts.get(gameObject.getTag()).decrement();
+    }
+
+    /**
+     * @return A readable summary of the live objects of every tag.
+     */
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder("live objects:");
+        for (Map.Entry<String, Counter> entry : liveCounts.entrySet()) {
+            summary.append(String.format(" %d %s,", entry.getValue().value(), entry.getKey()));
+        }
+        for (Map.Entry<String, IntSupplier> entry : systemCounts.entrySet()) {
+            summary.append(String.format(" %d %s,", entry.getValue().getAsInt(), entry.getKey()));
+        }
+        return summary.append(String.format(" %d despawned", despawned)).toString();
+    }
+}
@@ -0,0 +1,97 @@
+package bricker.gameobjects;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of reusable game objects.
+ * An acquired object is either a released one, reset by the acquire hook, or a new one from the
+ * factory. A released object is kept for reuse while the pool has room, and dropped otherwise.
+ * @param <T> The type of the pooled objects.
+ */
+public class ObjectPool<T> {
+    private final int capacity;
+    private final Supplier<T> factory;
+    private final Consumer<T> onAcquire;
+    private final Consumer<T> onRelease;
+    private final ArrayDeque<T> freeObjects;
+    private int hits;
+    private int misses;
+    private int dropped;
+
+    /**
+     * Constructor.
+     * @param capacity The maximal number of released objects the pool keeps.
+     * @param factory Creates a new object when the pool is empty.
+     * @param onAcquire Resets the state of a reused object before it is handed out.
+     * @param onRelease Called on an object when it is released.
+     */
+    public ObjectPool(int capacity, Supplier<T> factory, Consumer<T> onAcquire,
+                      Consumer<T> onRelease) {
+        this.capacity = capacity;
+        this.factory = factory;
+        this.onAcquire = onAcquire;
+        this.onRelease = onRelease;
+        this.freeObjects = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Handing out an object, reusing a released one if there is one.
+     * @return The object.
+     */
+    public T acquire() {
+        T object = freeObjects.pollLast();
+        if (object == null) {
+            misses++;
+            return factory.get();
+        }
+        hits++;
+        onAcquire.accept(object);
+        return object;
+    }
+
+    /**
+     * Returning an object that was removed from the game to the pool.
+     * @param object The object.
+     */
+    public void release(T object) {
+        onRelease.accept(object);
+        if (freeObjects.size() < capacity) {
+            freeObjects.addLast(object);
+        }
+        else {
+            dropped++;
+        }
+    }
+
+    /**
+     * @return The number of acquired objects that were reused.
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * @return The number of acquired objects that were created.
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return The number of released objects the full pool did not keep.
+     */
+    public int getDropped() {
+        return dropped;
+    }
+
+    /**
+     * @return A readable summary of the pool's statistics.
+     */
+    @Override
+    public String toString() {
+        return String.format("pool: %d hits, %d misses, %d dropped, %d free",
+                hits, misses, dropped, freeObjects.size());
+    }
+}
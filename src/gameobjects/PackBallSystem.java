@@ -0,0 +1,566 @@
+package bricker.gameobjects;
+
+import bricker.Constants;
+import bricker.SoundMixer;
+import danogl.GameObject;
+import danogl.gui.Sound;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+import java.awt.Graphics2D;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * System that holds all the game's packs in primitive arrays instead of a game object each.
+ * The system is a single game object that covers the world: every frame it moves all the
+ * packs in one batch and bounces them off the walls, the paddles and the bricks, the same way a
+ * ball bounces with {@link Ball#bounce}. A pack that falls below the world is removed by moving
+ * the last pack into its slot. Like an {@link InterpolatedObject}, every pack is rendered
+ * between its positions of the last two ticks.
+ * A step of a pack is split in two: moving the pack and bouncing it off the walls, which only
+ * reads and writes the pack's own slot, and then bouncing it off the paddles and the bricks,
+ * whose strategies change the game. Once the system holds more than
+ * {@link Constants#PARALLEL_PACK_THRESHOLD} packs, the first half of every pack's frame runs on
+ * a fork-join pool, and the game thread then resolves the collisions pack by pack, in the same
+ * order as before, so the packs move exactly as they would on a single thread.
+ */
+public class PackBallSystem extends GameObject implements Categorized {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int BOX_SIZE = 4;
+    // the outcomes of moving a pack, before it collides with the paddles and the bricks.
+    private static final byte MOVED = 0;
+    private static final byte BOUNCED = 1;
+    private static final byte FELL = 2;
+    private static final byte MULTI_STEP = 3;
+
+    private final float packSize;
+    private final float worldWidth;
+    private final float worldHeight;
+    private final Renderable packImage;
+    private final Sound collisionSound;
+    private SoundMixer soundMixer;
+    private final List<Paddle> paddles;
+    private BrickGrid brickGrid;
+    private float[] positionsX;
+    private float[] positionsY;
+    private float[] velocitiesX;
+    private float[] velocitiesY;
+    private float[] previousX;
+    private float[] previousY;
+    private float[] movedX;
+    private float[] movedY;
+    private float[] movedVelocitiesX;
+    private float[] movedVelocitiesY;
+    private byte[] moves;
+    private RenderClock renderClock;
+    private long previousTick = -1;
+    private Moves[] chunkMoves;
+    private Paddle[] boxedPaddles;
+    private float[] paddleBoxes;
+    private int paddleBoxCount;
+    private int count;
+
+    /**
+     * Constructor.
+     * @param windowDimensions The dimensions of the world the packs move in.
+     * @param packImage The image of a pack. Can be null, in which case the packs are not rendered.
+     * @param collisionSound The sound played when a pack bounces. Can be null, in which case
+     *                       no sound is played.
+     */
+    public PackBallSystem(Vector2 windowDimensions, Renderable packImage, Sound collisionSound) {
+        super(Vector2.ZERO, windowDimensions, null);
+        this.packSize = Constants.PACK_TO_BALL_SIZE_RATIO * Constants.BALL_SIZE;
+        this.worldWidth = windowDimensions.x();
+        this.worldHeight = windowDimensions.y();
+        this.packImage = packImage;
+        this.collisionSound = collisionSound;
+        this.paddles = new ArrayList<>();
+        this.positionsX = new float[INITIAL_CAPACITY];
+        this.positionsY = new float[INITIAL_CAPACITY];
+        this.velocitiesX = new float[INITIAL_CAPACITY];
+        this.velocitiesY = new float[INITIAL_CAPACITY];
+        this.previousX = new float[INITIAL_CAPACITY];
+        this.previousY = new float[INITIAL_CAPACITY];
+        this.movedX = new float[INITIAL_CAPACITY];
+        this.movedY = new float[INITIAL_CAPACITY];
+        this.movedVelocitiesX = new float[INITIAL_CAPACITY];
+        this.movedVelocitiesY = new float[INITIAL_CAPACITY];
+        this.moves = new byte[INITIAL_CAPACITY];
+        this.chunkMoves = new Moves[0];
+        this.boxedPaddles = new Paddle[0];
+        this.paddleBoxes = new float[0];
+        setTag(Constants.PACK_BALL_TAG);
+        if (packImage != null) {
+            renderer().setRenderable(new PacksRenderable());
+        }
+    }
+
+    /**
+     * Adding a new pack.
+     * @param center The center of the pack.
+     * @param velocityX The horizontal velocity of the pack.
+     * @param velocityY The vertical velocity of the pack.
+     */
+    public void spawn(Vector2 center, float velocityX, float velocityY) {
+        add(center.x() - packSize / 2, center.y() - packSize / 2, velocityX, velocityY);
+    }
+
+    /**
+     * Getter for the number of packs in the game.
+     * @return The number of packs.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Removing all the packs.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Getter for the size of the packs' state.
+     * @return The number of bytes {@link #writeState} writes.
+     */
+    public int getStateSize() {
+        return Integer.BYTES + count * 4 * Float.BYTES;
+    }
+
+    /**
+     * Writing the number of packs, and the position and velocity of every pack.
+     * @param buffer The buffer to write to.
+     */
+    public void writeState(ByteBuffer buffer) {
+        buffer.putInt(count);
+        for (int i = 0; i < count; i++) {
+            buffer.putFloat(positionsX[i]).putFloat(positionsY[i])
+                    .putFloat(velocitiesX[i]).putFloat(velocitiesY[i]);
+        }
+    }
+
+    /**
+     * Replacing all the packs with the packs written by {@link #writeState}.
+     * @param buffer The buffer to read from.
+     */
+    public void readState(ByteBuffer buffer) {
+        count = 0;
+        int packs = buffer.getInt();
+        for (int i = 0; i < packs; i++) {
+            add(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+        }
+    }
+
+    /**
+     * Rendering the packs between their positions of the last two ticks, from now on.
+     * @param renderClock The clock of the game's ticks.
+     */
+    public void interpolate(RenderClock renderClock) {
+        this.renderClock = renderClock;
+    }
+
+    /**
+     * Adding a paddle the packs bounce off.
+     * @param paddle The paddle.
+     */
+    public void addPaddle(Paddle paddle) {
+        // a pooled paddle may come back before the system dropped it as removed.
+        if (!paddles.contains(paddle)) {
+            paddles.add(paddle);
+        }
+    }
+
+    /**
+     * Getter for the paddles the packs bounce off, which the main ball bounces off too.
+     * @return A read-only view of the paddles, which follows paddles added later.
+     */
+    public List<Paddle> getPaddles() {
+        return Collections.unmodifiableList(paddles);
+    }
+
+    /**
+     * Dropping the paddles that were removed from the game, so that the paddles added after them
+     * keep the order they were added in.
+     */
+    public void dropRemovedPaddles() {
+        for (int p = paddles.size() - 1; p >= 0; p--) {
+            if (paddles.get(p).isRemoved()) {
+                paddles.remove(p);
+            }
+        }
+    }
+
+    /**
+     * Setter for the mixer the packs' collision sound is played through.
+     * @param soundMixer The game's sound mixer. Can be null, in which case the sound is played
+     *                   directly.
+     */
+    public void setSoundMixer(SoundMixer soundMixer) {
+        this.soundMixer = soundMixer;
+    }
+
+    /**
+     * Setter for the grid of bricks the packs collide with.
+     * @param brickGrid The game's brick grid.
+     */
+    public void setBrickGrid(BrickGrid brickGrid) {
+        this.brickGrid = brickGrid;
+    }
+
+    /**
+     * Getter for the system's collision category.
+     * @return {@link CollisionCategory#PACK_BALL}.
+     */
+    @Override
+    public int getCollisionCategory() {
+        return CollisionCategory.PACK_BALL;
+    }
+
+    /**
+     * The packs collide through the system only, never through the game object collection.
+     * @param other The other GameObject.
+     * @return False.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return false;
+    }
+
+    /**
+     * Moving all the packs and bouncing them off the walls, the paddles and the bricks.
+     * The packs are visited from the last one down, so a removed pack is replaced by one that
+     * was already visited, and packs spawned during the frame start moving in the next one.
+     * A pack that moves farther than {@link Constants#MAX_STEP_DISTANCE} in the frame is moved
+     * in several steps, the same way the main ball is.
+     * @param deltaTime The time elapsed, in seconds, since the last frame.
+     */
+    @Override
+    public void update(float deltaTime) {
+        super.update(deltaTime);
+        if (renderClock != null) {
+            System.arraycopy(positionsX, 0, previousX, 0, count);
+            System.arraycopy(positionsY, 0, previousY, 0, count);
+            previousTick = renderClock.getTick();
+        }
+        updatePaddleBoxes();
+        boolean parallel = count > Constants.PARALLEL_PACK_THRESHOLD;
+        if (parallel) {
+            moveInParallel(deltaTime);
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            if (parallel && moves[i] != MULTI_STEP) {
+                collide(i);
+                continue;
+            }
+            int steps = getSteps(i, deltaTime);
+            for (int step = 0; step < steps; step++) {
+                if (!step(i, deltaTime / steps)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Moving the packs in chunks on the fork-join pool. The game thread forks every chunk but the
+     * first, moves the first itself and then joins the rest. The chunk tasks are kept between
+     * frames, so a frame forks them again instead of allocating new ones.
+     * @param deltaTime The time, in seconds, of the frame.
+     */
+    private void moveInParallel(float deltaTime) {
+        int chunks = (count + Constants.PARALLEL_PACK_CHUNK - 1) / Constants.PARALLEL_PACK_CHUNK;
+        if (chunkMoves.length < chunks) {
+            int created = chunkMoves.length;
+            chunkMoves = Arrays.copyOf(chunkMoves, chunks);
+            for (int c = created; c < chunks; c++) {
+                chunkMoves[c] = new Moves();
+            }
+        }
+        for (int c = chunks - 1; c >= 0; c--) {
+            int from = c * Constants.PARALLEL_PACK_CHUNK;
+            chunkMoves[c].reset(from, Math.min(from + Constants.PARALLEL_PACK_CHUNK, count),
+                    deltaTime);
+            if (c > 0) {
+                chunkMoves[c].fork();
+            }
+        }
+        chunkMoves[0].invoke();
+        for (int c = 1; c < chunks; c++) {
+            chunkMoves[c].join();
+        }
+    }
+
+    /**
+     * Getter for the number of steps a pack moves in during a frame.
+     * @param index The index of the pack.
+     * @param deltaTime The time, in seconds, of the frame.
+     * @return The number of steps, enough for no step to be longer than
+     *         {@link Constants#MAX_STEP_DISTANCE}.
+     */
+    private int getSteps(int index, float deltaTime) {
+        float distance = (float) Math.sqrt(velocitiesX[index] * velocitiesX[index] +
+                velocitiesY[index] * velocitiesY[index]) * deltaTime;
+        return distance > Constants.MAX_STEP_DISTANCE ?
+                (int) Math.ceil(distance / Constants.MAX_STEP_DISTANCE) : 1;
+    }
+
+    /**
+     * Moving a single pack for a single step and bouncing it off what it overlaps.
+     * @param index The index of the pack.
+     * @param stepTime The time, in seconds, of the step.
+     * @return False if the pack fell below the world and was removed.
+     */
+    private boolean step(int index, float stepTime) {
+        move(index, stepTime);
+        return collide(index);
+    }
+
+    /**
+     * Moving a pack and bouncing it off the walls, into the pack's moved slot. Only the pack's own
+     * slots are read and written, so packs can be moved in parallel.
+     * @param index The index of the pack.
+     * @param stepTime The time, in seconds, of the step.
+     */
+    private void move(int index, float stepTime) {
+        float x = positionsX[index] + velocitiesX[index] * stepTime;
+        float y = positionsY[index] + velocitiesY[index] * stepTime;
+        float velocityX = velocitiesX[index];
+        float velocityY = velocitiesY[index];
+        if (y > worldHeight) {
+            moves[index] = FELL;
+            return;
+        }
+        boolean bounced = false;
+
+        // walls
+        if ((x < Constants.WALL_THICKNESS && velocityX < 0) ||
+                (x + packSize > worldWidth - Constants.WALL_THICKNESS && velocityX > 0)) {
+            velocityX = -velocityX;
+            bounced = true;
+        }
+        if (y < Constants.WALL_THICKNESS && velocityY < 0) {
+            velocityY = -velocityY;
+            bounced = true;
+        }
+        movedX[index] = x;
+        movedY[index] = y;
+        movedVelocitiesX[index] = velocityX;
+        movedVelocitiesY[index] = velocityY;
+        moves[index] = bounced ? BOUNCED : MOVED;
+    }
+
+    /**
+     * Bouncing a moved pack off the paddles and the bricks, and storing where it moved to.
+     * @param index The index of the pack.
+     * @return False if the pack fell below the world and was removed.
+     */
+    private boolean collide(int index) {
+        if (moves[index] == FELL) {
+            despawn(index);
+            return false;
+        }
+        float x = movedX[index];
+        float y = movedY[index];
+        float velocityX = movedVelocitiesX[index];
+        float velocityY = movedVelocitiesY[index];
+        boolean bounced = moves[index] == BOUNCED;
+
+        // paddles, only those cached with their boxes, as a brick may add a paddle mid-frame and
+        // the list may be compacted before the frame ends.
+        for (int p = 0; p < paddleBoxCount; p++) {
+            int box = p * BOX_SIZE;
+            float overlapX = Math.min(x + packSize, paddleBoxes[box + 2]) -
+                    Math.max(x, paddleBoxes[box]);
+            float overlapY = Math.min(y + packSize, paddleBoxes[box + 3]) -
+                    Math.max(y, paddleBoxes[box + 1]);
+            if (overlapX <= 0 || overlapY <= 0 || boxedPaddles[p].isRemoved()) {
+                continue;
+            }
+            // a pack that already bounced off the paddle does not hit it again.
+            boolean hit;
+            if (overlapX < overlapY) {
+                boolean paddleOnRight = paddleBoxes[box] + paddleBoxes[box + 2] > 2 * x + packSize;
+                hit = velocityX > 0 == paddleOnRight;
+                if (hit) {
+                    velocityX = -velocityX;
+                }
+            }
+            else {
+                hit = velocityY > 0;
+                if (hit) {
+                    velocityY = -velocityY;
+                }
+            }
+            if (hit) {
+                boxedPaddles[p].registerHit();
+                bounced = true;
+            }
+        }
+
+        // bricks, whose strategies may spawn packs and grow the arrays.
+        if (brickGrid != null) {
+            int flips = brickGrid.collide(x, y, x + packSize, y + packSize,
+                    velocityX, velocityY, this);
+            if ((flips & BrickGrid.FLIP_X) != 0) {
+                velocityX = -velocityX;
+            }
+            if ((flips & BrickGrid.FLIP_Y) != 0) {
+                velocityY = -velocityY;
+            }
+            bounced |= flips != 0;
+        }
+
+        positionsX[index] = x;
+        positionsY[index] = y;
+        velocitiesX[index] = velocityX;
+        velocitiesY[index] = velocityY;
+        if (bounced && collisionSound != null) {
+            if (soundMixer != null) {
+                soundMixer.play(collisionSound);
+            }
+            else {
+                collisionSound.play();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adding a pack at the end of the arrays, growing them if they are full.
+     * @param x The left edge of the pack.
+     * @param y The top edge of the pack.
+     * @param velocityX The horizontal velocity of the pack.
+     * @param velocityY The vertical velocity of the pack.
+     */
+    private void add(float x, float y, float velocityX, float velocityY) {
+        if (count == positionsX.length) {
+            int capacity = count * 2;
+            positionsX = Arrays.copyOf(positionsX, capacity);
+            positionsY = Arrays.copyOf(positionsY, capacity);
+            velocitiesX = Arrays.copyOf(velocitiesX, capacity);
+            velocitiesY = Arrays.copyOf(velocitiesY, capacity);
+            previousX = Arrays.copyOf(previousX, capacity);
+            previousY = Arrays.copyOf(previousY, capacity);
+            movedX = Arrays.copyOf(movedX, capacity);
+            movedY = Arrays.copyOf(movedY, capacity);
+            movedVelocitiesX = Arrays.copyOf(movedVelocitiesX, capacity);
+            movedVelocitiesY = Arrays.copyOf(movedVelocitiesY, capacity);
+            moves = Arrays.copyOf(moves, capacity);
+        }
+        positionsX[count] = x;
+        positionsY[count] = y;
+        previousX[count] = x;
+        previousY[count] = y;
+        velocitiesX[count] = velocityX;
+        velocitiesY[count] = velocityY;
+        count++;
+    }
+
+    /**
+     * Removing a pack by moving the last pack into its slot.
+     * @param index The index of the pack.
+     */
+    private void despawn(int index) {
+        count--;
+        positionsX[index] = positionsX[count];
+        positionsY[index] = positionsY[count];
+        velocitiesX[index] = velocitiesX[count];
+        velocitiesY[index] = velocitiesY[count];
+        previousX[index] = previousX[count];
+        previousY[index] = previousY[count];
+    }
+
+    /**
+     * Dropping the removed paddles and caching the rest, with their bounding boxes, for the frame.
+     */
+    private void updatePaddleBoxes() {
+        dropRemovedPaddles();
+        paddleBoxCount = paddles.size();
+        if (boxedPaddles.length < paddleBoxCount) {
+            boxedPaddles = new Paddle[paddleBoxCount];
+            paddleBoxes = new float[paddleBoxCount * BOX_SIZE];
+        }
+        for (int p = 0; p < paddleBoxCount; p++) {
+            Paddle paddle = paddles.get(p);
+            Vector2 topLeft = paddle.getTopLeftCorner();
+            Vector2 dimensions = paddle.getDimensions();
+            boxedPaddles[p] = paddle;
+            int box = p * BOX_SIZE;
+            paddleBoxes[box] = topLeft.x();
+            paddleBoxes[box + 1] = topLeft.y();
+            paddleBoxes[box + 2] = topLeft.x() + dimensions.x();
+            paddleBoxes[box + 3] = topLeft.y() + dimensions.y();
+        }
+    }
+
+    /**
+     * Moves a chunk of packs for the whole frame. A pack that moves in several steps is only
+     * marked, since its steps collide in between, and is moved on the game thread.
+     */
+    private class Moves extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private int from;
+        private int to;
+        private float deltaTime;
+
+        /**
+         * Setting the chunk the task moves in the next frame, and making the task ready to run
+         * again.
+         * @param from The index of the first pack.
+         * @param to The index after the last pack.
+         * @param deltaTime The time, in seconds, of the frame.
+         */
+        void reset(int from, int to, float deltaTime) {
+            this.from = from;
+            this.to = to;
+            this.deltaTime = deltaTime;
+            reinitialize();
+        }
+
+        /**
+         * Moving the packs of the chunk.
+         */
+        @Override
+        protected void compute() {
+            for (int i = from; i < to; i++) {
+                if (getSteps(i, deltaTime) == 1) {
+                    move(i, deltaTime);
+                }
+                else {
+                    moves[i] = MULTI_STEP;
+                }
+            }
+        }
+    }
+
+    /**
+     * Renders every pack with the pack image, mapping world positions into the area the system
+     * is rendered to, so the camera applies to the packs too.
+     */
+    private class PacksRenderable implements Renderable {
+        @Override
+        public void render(Graphics2D g, Vector2 topLeftCorner, Vector2 dimensions,
+                           double degreesCounterClockwise, boolean isFlippedHorizontally,
+                           boolean isFlippedVertically, double opaqueness) {
+            float scaleX = dimensions.x() / worldWidth;
+            float scaleY = dimensions.y() / worldHeight;
+            Vector2 size = new Vector2(packSize * scaleX, packSize * scaleY);
+            // a pack added since the last tick starts at its own position, so it needs no check.
+            float back = renderClock != null && previousTick == renderClock.getTick() ?
+                    1 - renderClock.getAlpha() : 0;
+            for (int i = 0; i < count; i++) {
+                float x = positionsX[i] + (previousX[i] - positionsX[i]) * back;
+                float y = positionsY[i] + (previousY[i] - positionsY[i]) * back;
+                packImage.render(g, new Vector2(topLeftCorner.x() + x * scaleX,
+                                topLeftCorner.y() + y * scaleY), size,
+                        0, false, false, opaqueness);
+            }
+        }
+    }
+}
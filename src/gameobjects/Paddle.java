@@ -2,7 +2,6 @@ package bricker.gameobjects;
 
 import bricker.Constants;
 import danogl.GameObject;
-import danogl.collisions.Collision;
 import danogl.collisions.GameObjectCollection;
 import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
@@ -13,14 +12,23 @@ import java.awt.event.KeyEvent;
 /**
  * Class that represents the games Paddle object.
  */
-public class Paddle extends GameObject {
+public class Paddle extends InterpolatedObject implements Categorized {
+    private static final Vector2 LEFT_VELOCITY = Vector2.LEFT.mult(Constants.PADDLE_MOVEMENT_SPEED);
+    private static final Vector2 RIGHT_VELOCITY = Vector2.RIGHT.mult(Constants.PADDLE_MOVEMENT_SPEED);
+
     private final UserInputListener inputListener;
     private final Vector2 screenSize;
     private final Counter collisionCounter;
     private final double  collisionLimit;
     private final GameObjectCollection gameObjectCollection;
     private final Counter paddleCounter;
-
+    private boolean removed;
+    private int collisionCategory;
+    private int collisionMask;
+    private ObjectPool<Paddle> pool;
+    // positions of the paddle at the screen edges, kept to not allocate them every frame.
+    private Vector2 leftEdgePosition;
+    private Vector2 rightEdgePosition;
 
     /**
      * Construct a new GameObject instance.
@@ -44,6 +52,8 @@ public class Paddle extends GameObject {
         this.gameObjectCollection = gameObjectCollection;
         this.paddleCounter = paddleCounter;
         this.paddleCounter.increment();
+        this.collisionCategory = CollisionCategory.EXTRA_PADDLE;
+        this.collisionMask = CollisionCategory.NONE;
     }
 
     /**
@@ -59,34 +69,105 @@ public class Paddle extends GameObject {
     public void update(float deltaTime) {
         super.update(deltaTime);
 
-        Vector2 movementDir = Vector2.ZERO;
-        if (inputListener.isKeyPressed(KeyEvent.VK_LEFT)){
-            movementDir = movementDir.add(Vector2.LEFT);
+        boolean movingLeft = inputListener.isKeyPressed(KeyEvent.VK_LEFT);
+        boolean movingRight = inputListener.isKeyPressed(KeyEvent.VK_RIGHT);
+        if (movingLeft == movingRight){
+            setVelocity(Vector2.ZERO);
         }
-        if (inputListener.isKeyPressed(KeyEvent.VK_RIGHT)){
-            movementDir = movementDir.add(Vector2.RIGHT);
+        else{
+            setVelocity(movingLeft ? LEFT_VELOCITY : RIGHT_VELOCITY);
         }
-        setVelocity(movementDir.mult(Constants.PADDLE_MOVEMENT_SPEED));
         handlePaddleOutOfScreen();
     }
 
     /**
-     *
-     * @param other The GameObject with which a collision occurred.
-     * @param collision Information regarding this collision.
-     *                  A reasonable elastic behavior can be achieved with:
-     *                  setVelocity(getVelocity().flipped(collision.getNormal()));
+     * Counting a hit of a ball, called by the ball or the packs that bounce off the paddle,
+     * removing the paddle once it reaches its collision limit.
      */
-    @Override
-    public void onCollisionEnter(GameObject other, Collision collision) {
-        super.onCollisionEnter(other, collision);
+    public void registerHit() {
         collisionCounter.increment();
         if (collisionCounter.value() == collisionLimit){
-            gameObjectCollection.removeGameObject(this);
-            paddleCounter.decrement();
+            retire();
+        }
+    }
+
+    /**
+     * Removing the paddle from the game and returning it to its pool.
+     */
+    public void retire() {
+        gameObjectCollection.removeGameObject(this);
+        paddleCounter.decrement();
+        removed = true;
+        if (pool != null) {
+            pool.release(this);
         }
     }
 
+    /**
+     * Resetting a paddle that is reused from a pool, counting it as a paddle in the game again.
+     */
+    public void reset() {
+        collisionCounter.reset();
+        removed = false;
+        paddleCounter.increment();
+    }
+
+    /**
+     * Getter for the number of hits the paddle took.
+     * @return The number of hits.
+     */
+    public int getHitCount() {
+        return collisionCounter.value();
+    }
+
+    /**
+     * Setter for the number of hits the paddle took, for a paddle restored from a snapshot.
+     * @param hits The number of hits.
+     */
+    public void setHitCount(int hits) {
+        collisionCounter.reset();
+        collisionCounter.increaseBy(hits);
+    }
+
+    /**
+     * Setter for the pool the paddle returns to once it is removed from the game.
+     * @param pool The pool.
+     */
+    public void setPool(ObjectPool<Paddle> pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Checks if the paddle removed itself after reaching its collision limit.
+     * @return True if the paddle was removed from the game.
+     */
+    public boolean isRemoved() {
+        return removed;
+    }
+
+    /**
+     * Setting the paddle's tag, and with it its collision category: only the main paddle
+     * catches falling hearts. The balls bounce off the paddles by themselves, so no paddle
+     * collides with them.
+     * @param tag The new tag.
+     */
+    @Override
+    public void setTag(String tag) {
+        super.setTag(tag);
+        collisionCategory = CollisionCategory.ofTag(tag, CollisionCategory.EXTRA_PADDLE);
+        collisionMask = collisionCategory == CollisionCategory.MAIN_PADDLE ?
+                CollisionCategory.FALLING_HEART : CollisionCategory.NONE;
+    }
+
+    /**
+     * Getter for the paddle's collision category.
+     * @return {@link CollisionCategory#MAIN_PADDLE} or {@link CollisionCategory#EXTRA_PADDLE}.
+     */
+    @Override
+    public int getCollisionCategory() {
+        return collisionCategory;
+    }
+
     /**
      * Checks if a collision is with specific objects.
      * @param other The other GameObject.
@@ -94,13 +175,7 @@ public class Paddle extends GameObject {
      */
     @Override
     public boolean shouldCollideWith(GameObject other) {
-        if (this.getTag().equals("main paddle")){
-            return other.getTag().equals(Constants.MAIN_BALL_TAG) ||
-                    other.getTag().equals(Constants.PACK_BALL_TAG) ||
-                    other.getTag().equals(Constants.FALLING_HEART_TAG);
-        }
-        return other.getTag().equals(Constants.MAIN_BALL_TAG) ||
-                other.getTag().equals(Constants.PACK_BALL_TAG);
+        return (CollisionCategory.of(other) & collisionMask) != 0;
     }
 
     /**
@@ -115,14 +190,21 @@ public class Paddle extends GameObject {
      * Function to handle the scenario of the paddle leaving the screen.
      */
     private void handlePaddleOutOfScreen(){
+        Vector2 topLeftCorner = getTopLeftCorner();
+        float rightEdge = screenSize.x() - getDimensions().x();
         // right size
-        if (getTopLeftCorner().x() >= screenSize.x() - getDimensions().x()){
-            setTopLeftCorner(new Vector2(screenSize.x() - getDimensions().x(),
-                    getTopLeftCorner().y()));
+        if (topLeftCorner.x() >= rightEdge){
+            if (rightEdgePosition == null || rightEdgePosition.y() != topLeftCorner.y()){
+                rightEdgePosition = new Vector2(rightEdge, topLeftCorner.y());
+            }
+            setTopLeftCorner(rightEdgePosition);
         }
         //left side
-        else if (getTopLeftCorner().x() <= Vector2.ZERO.x()){
-            setTopLeftCorner(new Vector2(Vector2.ZERO.x(), getTopLeftCorner().y())  );
+        else if (topLeftCorner.x() <= Vector2.ZERO.x()){
+            if (leftEdgePosition == null || leftEdgePosition.y() != topLeftCorner.y()){
+                leftEdgePosition = new Vector2(Vector2.ZERO.x(), topLeftCorner.y());
+            }
+            setTopLeftCorner(leftEdgePosition);
         }
     }
 }
@@ -0,0 +1,41 @@
+package bricker.gameobjects;
+
+/**
+ * The clock of the game's fixed simulation ticks, as the renderer sees it: the number of ticks
+ * simulated so far, and how far the rendered frame is into the tick after the last one.
+ */
+public class RenderClock {
+    private long tick;
+    private float alpha;
+
+    /**
+     * Counting the start of a new tick.
+     */
+    public void advance() {
+        tick++;
+    }
+
+    /**
+     * Getter for the number of the current tick.
+     * @return The number of ticks started so far.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Setter for how far the rendered frame is into the next tick.
+     * @param alpha The fraction of a tick, from zero, at the last tick, to one, at the next.
+     */
+    public void setAlpha(float alpha) {
+        this.alpha = alpha;
+    }
+
+    /**
+     * Getter for how far the rendered frame is into the next tick.
+     * @return The fraction of a tick, from zero, at the last tick, to one, at the next.
+     */
+    public float getAlpha() {
+        return alpha;
+    }
+}
@@ -0,0 +1,115 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+/**
+ * Swept test of a moving axis aligned box against a static one.
+ * Instead of checking for an overlap after the move, the test finds the fraction of the move at
+ * which the box first touches the target, so a fast box can not pass through a thin target
+ * between two frames. A box that already overlaps the target hits it at the start of the move,
+ * if it moves into it. The result of the last test is kept in the instance, so testing does not
+ * allocate.
+ */
+public class SweptAabb {
+    private float time;
+    private boolean hitOnX;
+
+    /**
+     * Testing a move of a box against a target.
+     * @param minX The left edge of the box before the move.
+     * @param minY The top edge of the box before the move.
+     * @param maxX The right edge of the box before the move.
+     * @param maxY The bottom edge of the box before the move.
+     * @param moveX The horizontal move.
+     * @param moveY The vertical move.
+     * @param target The target.
+     * @return True if the box hits the target during the move.
+     */
+    public boolean test(float minX, float minY, float maxX, float maxY, float moveX, float moveY,
+                        GameObject target) {
+        Vector2 topLeft = target.getTopLeftCorner();
+        Vector2 dimensions = target.getDimensions();
+        float targetMinX = topLeft.x();
+        float targetMinY = topLeft.y();
+        float targetMaxX = targetMinX + dimensions.x();
+        float targetMaxY = targetMinY + dimensions.y();
+
+        float overlapX = Math.min(maxX, targetMaxX) - Math.max(minX, targetMinX);
+        float overlapY = Math.min(maxY, targetMaxY) - Math.max(minY, targetMinY);
+        if (overlapX > 0 && overlapY > 0) {
+            // already inside: hit along the axis of least penetration, if moving into the target.
+            hitOnX = overlapX < overlapY;
+            time = 0;
+            return hitOnX ? moveX > 0 == targetMinX + targetMaxX > minX + maxX :
+                    moveY > 0 == targetMinY + targetMaxY > minY + maxY;
+        }
+
+        float entryX = entryTime(minX, maxX, targetMinX, targetMaxX, moveX);
+        float exitX = exitTime(minX, maxX, targetMinX, targetMaxX, moveX);
+        float entryY = entryTime(minY, maxY, targetMinY, targetMaxY, moveY);
+        float exitY = exitTime(minY, maxY, targetMinY, targetMaxY, moveY);
+        float entry = Math.max(entryX, entryY);
+        float exit = Math.min(exitX, exitY);
+        if (entry > exit || entry < 0 || entry > 1) {
+            return false;
+        }
+        time = entry;
+        hitOnX = entryX > entryY;
+        return true;
+    }
+
+    /**
+     * @return The fraction of the move, between 0 and 1, at which the last hit happened.
+     */
+    public float getTime() {
+        return time;
+    }
+
+    /**
+     * @return True if the last hit was on a vertical side of the target, so the horizontal
+     *         velocity should flip, and false if it was on a horizontal side.
+     */
+    public boolean isHitOnX() {
+        return hitOnX;
+    }
+
+    /**
+     * The fraction of a move along one axis at which the box starts overlapping the target.
+     * @param min The box's low edge.
+     * @param max The box's high edge.
+     * @param targetMin The target's low edge.
+     * @param targetMax The target's high edge.
+     * @param move The move.
+     * @return The fraction, negative infinity if the box never stops overlapping without
+     *         moving, and positive infinity if it never starts.
+     */
+    private static float entryTime(float min, float max, float targetMin, float targetMax, float move) {
+        if (move > 0) {
+            return (targetMin - max) / move;
+        }
+        if (move < 0) {
+            return (targetMax - min) / move;
+        }
+        return max > targetMin && min < targetMax ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * The fraction of a move along one axis at which the box stops overlapping the target.
+     * @param min The box's low edge.
+     * @param max The box's high edge.
+     * @param targetMin The target's low edge.
+     * @param targetMax The target's high edge.
+     * @param move The move.
+     * @return The fraction, positive infinity if the box does not move.
+     */
+    private static float exitTime(float min, float max, float targetMin, float targetMax, float move) {
+        if (move > 0) {
+            return (targetMax - min) / move;
+        }
+        if (move < 0) {
+            return (targetMin - max) / move;
+        }
+        return Float.POSITIVE_INFINITY;
+    }
+}
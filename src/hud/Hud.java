@@ -0,0 +1,83 @@
+package bricker.hud;
+
+import danogl.GameObject;
+import danogl.collisions.GameObjectCollection;
+import danogl.collisions.Layer;
+import danogl.components.CoordinateSpace;
+import danogl.gui.rendering.Renderable;
+import danogl.gui.rendering.TextRenderable;
+import danogl.util.Vector2;
+import java.awt.Color;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+/**
+ * The game's heads-up display.
+ * Every element is added once, in the UI layer and in camera coordinates, so it neither collides
+ * nor follows the camera, and re-renders itself only when the value bound to it changes.
+ */
+public class Hud {
+    private final GameObjectCollection gameObjectCollection;
+
+    /**
+     * Constructor.
+     * @param gameObjectCollection The game's game object collection.
+     */
+    public Hud(GameObjectCollection gameObjectCollection) {
+        this.gameObjectCollection = gameObjectCollection;
+    }
+
+    /**
+     * Adding a text element that displays a value.
+     * @param topLeftCorner Position of the element, in camera coordinates.
+     * @param dimensions Width and height of the element.
+     * @param label Text displayed before the value.
+     * @param value The value the element displays.
+     * @param colorOf The color of the text for a value.
+     */
+    public void addText(Vector2 topLeftCorner, Vector2 dimensions, String label, IntSupplier value,
+                        IntFunction<Color> colorOf) {
+        add(new HudText(topLeftCorner, dimensions, label, value, colorOf));
+    }
+
+    /**
+     * Adding a text element whose text is set by the game, initially empty.
+     * @param topLeftCorner Position of the element, in camera coordinates.
+     * @param dimensions Width and height of the element.
+     * @param color The color of the text.
+     * @return The text of the element.
+     */
+    public TextRenderable addMessage(Vector2 topLeftCorner, Vector2 dimensions, Color color) {
+        TextRenderable text = new TextRenderable("");
+        text.setColor(color);
+        GameObject message = new GameObject(topLeftCorner, dimensions, text);
+        add(message);
+        return text;
+    }
+
+    /**
+     * Adding a row of icons that displays a value.
+     * @param positions The position of every icon, in camera coordinates.
+     * @param iconDimensions Width and height of an icon.
+     * @param icon The image of an icon.
+     * @param value The value the element displays.
+     */
+    public void addIcons(Vector2[] positions, Vector2 iconDimensions, Renderable icon,
+                         IntSupplier value) {
+        GameObject[] icons = new GameObject[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            icons[i] = new GameObject(positions[i], iconDimensions, null);
+            add(icons[i]);
+        }
+        add(new HudIcons(icons, icon, value));
+    }
+
+    /**
+     * Adding an element to the UI layer, in camera coordinates.
+     * @param element The element.
+     */
+    private void add(GameObject element) {
+        element.setCoordinateSpace(CoordinateSpace.CAMERA_COORDINATES);
+        gameObjectCollection.addGameObject(element, Layer.UI);
+    }
+}
@@ -0,0 +1,71 @@
+package bricker.hud;
+
+import danogl.GameObject;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+import java.util.function.IntSupplier;
+
+/**
+ * HUD element that displays an int value as a row of icons, such as the player's hearts.
+ * The icons stay in the game, and only the ones whose visibility changed are re-rendered.
+ */
+public class HudIcons extends GameObject {
+    private final IntSupplier value;
+    private final Renderable icon;
+    private final GameObject[] icons;
+    private int displayedValue;
+
+    /**
+     * Constructor.
+     * @param icons The icon objects, the first one is shown for a value of one.
+     * @param icon The image of an icon.
+     * @param value The value the element displays.
+     */
+    public HudIcons(GameObject[] icons, Renderable icon, IntSupplier value) {
+        super(Vector2.ZERO, Vector2.ZERO, null);
+        this.icons = icons;
+        this.icon = icon;
+        this.value = value;
+        this.displayedValue = 0;
+        for (GameObject iconObject : icons) {
+            iconObject.renderer().setRenderable(null);
+        }
+        show(value.getAsInt());
+    }
+
+    /**
+     * Re-rendering the icons if the bound value changed.
+     * @param deltaTime The time elapsed, in seconds, since the last frame.
+     */
+    @Override
+    public void update(float deltaTime) {
+        super.update(deltaTime);
+        int current = value.getAsInt();
+        if (current != displayedValue) {
+            show(current);
+        }
+    }
+
+    /**
+     * HUD elements never collide.
+     * @param other The other GameObject.
+     * @return False.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return false;
+    }
+
+    /**
+     * Showing as many icons as the value, hiding the rest.
+     * @param newValue The value to display.
+     */
+    private void show(int newValue) {
+        int shown = Math.max(0, Math.min(newValue, icons.length));
+        int previouslyShown = Math.max(0, Math.min(displayedValue, icons.length));
+        for (int i = Math.min(shown, previouslyShown); i < Math.max(shown, previouslyShown); i++) {
+            icons[i].renderer().setRenderable(i < shown ? icon : null);
+        }
+        displayedValue = newValue;
+    }
+}
@@ -0,0 +1,65 @@
+package bricker.hud;
+
+import danogl.GameObject;
+import danogl.gui.rendering.TextRenderable;
+import danogl.util.Vector2;
+import java.awt.Color;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+/**
+ * HUD element that displays an int value as text.
+ * The text is re-rendered only on frames in which the bound value changed.
+ */
+public class HudText extends GameObject {
+    private final String label;
+    private final IntSupplier value;
+    private final IntFunction<Color> colorOf;
+    private final TextRenderable text;
+    private int displayedValue;
+
+    /**
+     * Constructor.
+     * @param topLeftCorner Position of the element, in camera coordinates.
+     * @param dimensions Width and height of the element.
+     * @param label Text displayed before the value.
+     * @param value The value the element displays.
+     * @param colorOf The color of the text for a value.
+     */
+    public HudText(Vector2 topLeftCorner, Vector2 dimensions, String label, IntSupplier value,
+                   IntFunction<Color> colorOf) {
+        super(topLeftCorner, dimensions, null);
+        this.label = label;
+        this.value = value;
+        this.colorOf = colorOf;
+        this.displayedValue = value.getAsInt();
+        this.text = new TextRenderable(label + displayedValue);
+        text.setColor(colorOf.apply(displayedValue));
+        renderer().setRenderable(text);
+    }
+
+    /**
+     * Re-rendering the text if the bound value changed.
+     * @param deltaTime The time elapsed, in seconds, since the last frame.
+     */
+    @Override
+    public void update(float deltaTime) {
+        super.update(deltaTime);
+        int current = value.getAsInt();
+        if (current != displayedValue) {
+            displayedValue = current;
+            text.setString(label + current);
+            text.setColor(colorOf.apply(current));
+        }
+    }
+
+    /**
+     * HUD elements never collide.
+     * @param other The other GameObject.
+     * @return False.
+     */
+    @Override
+    public boolean shouldCollideWith(GameObject other) {
+        return false;
+    }
+}
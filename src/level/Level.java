@@ -0,0 +1,203 @@
+package bricker.level;
+
+import bricker.brick_strategies.StrategyRegistry;
+import bricker.gameobjects.BrickGrid;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A board of bricks loaded from a level file.
+ * The file holds the geometry of the board's grid, followed by an int per cell: the
+ * {@link StrategyRegistry} code of the cell's brick, in which a double strategy already packs the
+ * codes of its two strategies, or {@link #EMPTY} for a cell without a brick. The file is
+ * memory-mapped and the codes are read straight from it, so a level is not parsed and its size
+ * only costs the bricks the game builds from it.
+ */
+public class Level {
+    /**
+     * The code of a cell without a brick.
+     */
+    public static final int EMPTY = -1;
+
+    private static final int MAGIC = 0x42524b4c; // "BRKL"
+    private static final int VERSION = 1;
+
+    private final int rows;
+    private final int columns;
+    private final float top;
+    private final float brickWidth;
+    private final float brickHeight;
+    private final float marginX;
+    private final float marginY;
+    private final int brickCount;
+    private final IntBuffer codes;
+
+    /**
+     * Constructor.
+     * @param rows The number of rows of the board.
+     * @param columns The number of columns of the board.
+     * @param top The y coordinate above the first row, before its margin.
+     * @param brickWidth The width of a brick.
+     * @param brickHeight The height of a brick.
+     * @param marginX The horizontal space before every brick.
+     * @param marginY The vertical space above every brick.
+     * @param brickCount The number of cells with a brick.
+     * @param codes The code of every cell, row by row.
+     */
+    private Level(int rows, int columns, float top, float brickWidth, float brickHeight,
+                  float marginX, float marginY, int brickCount, IntBuffer codes) {
+        this.rows = rows;
+        this.columns = columns;
+        this.top = top;
+        this.brickWidth = brickWidth;
+        this.brickHeight = brickHeight;
+        this.marginX = marginX;
+        this.marginY = marginY;
+        this.brickCount = brickCount;
+        this.codes = codes;
+    }
+
+    /**
+     * Opening a level file.
+     * @param path The file.
+     * @return The level.
+     * @throws IOException If the file can not be read or is not a complete level, or if its
+     *                     brick count or one of its codes does not match its cells.
+     */
+    public static Level open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException("not a level file");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new IOException("unsupported level version " + version);
+            }
+            int rows = buffer.getInt();
+            int columns = buffer.getInt();
+            float top = buffer.getFloat();
+            float brickWidth = buffer.getFloat();
+            float brickHeight = buffer.getFloat();
+            float marginX = buffer.getFloat();
+            float marginY = buffer.getFloat();
+            int brickCount = buffer.getInt();
+            if (rows < 0 || columns < 0 || buffer.remaining() / Integer.BYTES < (long) rows * columns) {
+                throw new IOException("truncated level file");
+            }
+            IntBuffer codes = buffer.asIntBuffer();
+            int cells = countBricks(codes, rows * columns);
+            if (cells != brickCount) {
+                throw new IOException("level file counts " + brickCount + " bricks but holds " +
+                        cells);
+            }
+            return new Level(rows, columns, top, brickWidth, brickHeight, marginX, marginY,
+                    brickCount, codes);
+        }
+    }
+
+    /**
+     * Counting the cells with a brick, and checking that every brick's code can be decoded.
+     * @param codes The code of every cell, row by row.
+     * @param cells The number of cells.
+     * @return The number of cells with a brick.
+     * @throws IOException If a cell holds a code that is not a strategy's.
+     */
+    private static int countBricks(IntBuffer codes, int cells) throws IOException {
+        int brickCount = 0;
+        for (int i = 0; i < cells; i++) {
+            int code = codes.get(i);
+            if (code == EMPTY) {
+                continue;
+            }
+            if (!StrategyRegistry.isValid(code)) {
+                throw new IOException("invalid strategy code " + code + " in cell " + i);
+            }
+            brickCount++;
+        }
+        return brickCount;
+    }
+
+    /**
+     * Writing a level file.
+     * @param path The file.
+     * @param grid The grid that holds the geometry of the board.
+     * @param codes The code of every cell of the grid, row by row, {@link #EMPTY} for a cell
+     *              without a brick.
+     * @throws IOException If the file can not be written.
+     */
+    public static void write(Path path, BrickGrid grid, int[] codes) throws IOException {
+        if (codes.length != grid.getRows() * grid.getColumns()) {
+            throw new IllegalArgumentException("expected a code for each of the grid's " +
+                    grid.getRows() * grid.getColumns() + " cells");
+        }
+        int brickCount = 0;
+        for (int code : codes) {
+            if (code != EMPTY) {
+                brickCount++;
+            }
+        }
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(grid.getRows());
+            out.writeInt(grid.getColumns());
+            out.writeFloat(grid.getTop());
+            out.writeFloat(grid.getBrickDimensions().x());
+            out.writeFloat(grid.getBrickDimensions().y());
+            out.writeFloat(grid.getMarginX());
+            out.writeFloat(grid.getMarginY());
+            out.writeInt(brickCount);
+            for (int code : codes) {
+                out.writeInt(code);
+            }
+        }
+    }
+
+    /**
+     * Creating an empty grid with the board's geometry.
+     * @return The grid.
+     */
+    public BrickGrid createGrid() {
+        return new BrickGrid(rows, columns, top, brickWidth, brickHeight, marginX, marginY);
+    }
+
+    /**
+     * Getter for the code of a cell.
+     * @param row The row of the cell.
+     * @param column The column of the cell.
+     * @return The {@link StrategyRegistry} code of the cell's brick, or {@link #EMPTY}.
+     */
+    public int getCode(int row, int column) {
+        return codes.get(row * columns + column);
+    }
+
+    /**
+     * @return The number of rows of the board.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return The number of columns of the board.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return The number of bricks on the board.
+     */
+    public int getBrickCount() {
+        return brickCount;
+    }
+}
@@ -0,0 +1,55 @@
+package bricker.level;
+
+import bricker.AssetRegistry;
+import bricker.Constants;
+import bricker.RandomStreams;
+import bricker.brick_strategies.StrategiesFactory;
+import bricker.gameobjects.BrickGrid;
+import danogl.util.Counter;
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Generates a level file of a full board, laid out across the window the way the game lays out
+ * its bricks, with every brick's strategy rolled the way the game rolls it.
+ */
+public class LevelGenerator {
+    /**
+     * Default constructor.
+     */
+    private LevelGenerator() {}
+
+    /**
+     * Rolling the codes of a full board.
+     * @param rows The number of rows.
+     * @param columns The number of bricks in a row.
+     * @param seed The seed the strategies are rolled from.
+     * @return The code of every cell, row by row.
+     */
+    public static int[] generate(int rows, int columns, long seed) {
+        // the factory is only used to roll codes, so its strategies need no game.
+        StrategiesFactory factory = new StrategiesFactory(null, null, null,
+                new AssetRegistry(null, null), null, null, new Counter(0), new Counter(0), null,
+                new RandomStreams(seed));
+        int[] codes = new int[rows * columns];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = factory.buildCode();
+        }
+        return codes;
+    }
+
+    /**
+     * Writes a generated level.
+     * @param args The level file, the number of rows and the number of bricks in a row,
+     *             optionally followed by the seed.
+     * @throws IOException If the level can not be written.
+     */
+    public static void main(String[] args) throws IOException {
+        int rows = Integer.parseInt(args[1]);
+        int columns = Integer.parseInt(args[2]);
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : RandomStreams.defaultSeed();
+        Level.write(Paths.get(args[0]), BrickGrid.forWindow(rows, columns, Constants.WINDOW_WIDTH),
+                generate(rows, columns, seed));
+        System.out.printf("%d bricks written to %s (seed %d)%n", rows * columns, args[0], seed);
+    }
+}
@@ -0,0 +1,68 @@
+package bricker.main;
+
+import bricker.Constants;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Regression check for allocations in the per-frame update path.
+ * Runs headless games for a number of frames and fails if the game thread allocated more bytes
+ * per frame than the threshold. Games that end are restarted, and only the frames themselves are
+ * measured, so the occasional respawn is amortized over the run.
+ */
+public class AllocationCheck {
+    private static final float DELTA_TIME = 1 / 60f;
+    private static final int WARMUP_FRAMES = 20_000;
+    private static final int MEASURED_FRAMES = 100_000;
+    // a steady frame measures about 120 bytes, all of them allocated inside danogl: the vectors
+    // GameObject.update moves every object with, and the boxed keys of the collision layers.
+    // The threshold leaves room for those, and fails on anything the game itself allocates per
+    // frame.
+    private static final long DEFAULT_THRESHOLD_BYTES_PER_FRAME = 160;
+    // looked up once, as the lookup itself allocates.
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Runs the check, exiting with a non-zero status if it fails.
+     * @param args Optional threshold, in bytes per frame.
+     */
+    public static void main(String[] args) {
+        long threshold = args.length == 1 ? Long.parseLong(args[0]) : DEFAULT_THRESHOLD_BYTES_PER_FRAME;
+        HeadlessSimulation simulation = new HeadlessSimulation(Constants.DEFAULT_AMOUNT_OF_BRICK_LINES,
+                Constants.DEFAULT_AMOUNT_OF_BRICKS_PER_LINE, DELTA_TIME);
+        simulation.start();
+        runFrames(simulation, WARMUP_FRAMES);
+        long bytes = runFrames(simulation, MEASURED_FRAMES);
+        double bytesPerFrame = (double) bytes / MEASURED_FRAMES;
+        System.out.printf("%.1f bytes allocated per frame (threshold %d)%n", bytesPerFrame, threshold);
+        if (bytesPerFrame > threshold) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Simulates frames, restarting the game whenever it ends.
+     * @param simulation The simulation.
+     * @param frames The number of frames to simulate.
+     * @return The number of bytes the frames allocated, not counting the restarts.
+     */
+    private static long runFrames(HeadlessSimulation simulation, int frames) {
+        long bytes = 0;
+        for (int i = 0; i < frames; i++) {
+            if (!simulation.isRunning()) {
+                simulation.start();
+            }
+            long before = allocatedBytes();
+            simulation.step();
+            bytes += allocatedBytes() - before;
+        }
+        return bytes;
+    }
+
+    /**
+     * @return The number of bytes the current thread allocated so far.
+     */
+    private static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
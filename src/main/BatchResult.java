@@ -0,0 +1,139 @@
+package bricker.main;
+
+import bricker.profiling.LatencyHistogram;
+
+/**
+ * The aggregated results of a batch of headless games.
+ * Results of disjoint parts of a batch are merged into the result of the whole batch.
+ */
+public class BatchResult {
+    private static final double NANOS_IN_SECOND = 1e9;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LatencyHistogram frameTimes;
+    private int games;
+    private int won;
+    private int lost;
+    private long frames;
+    private long slowestFrameNanos;
+    private long slowestFrameSeed;
+    private long wallNanos;
+
+    /**
+     * Constructor for the result of an empty batch.
+     */
+    public BatchResult() {
+        this.frameTimes = new LatencyHistogram();
+    }
+
+    /**
+     * Adding the result of a single game.
+     * @param result The game's result.
+     * @param gameFrameTimes The wall time of every frame of the game.
+     */
+    public void add(SimulationResult result, LatencyHistogram gameFrameTimes) {
+        games++;
+        won += result.isWon() ? 1 : 0;
+        lost += result.isLost() ? 1 : 0;
+        frames += result.getFrames();
+        frameTimes.add(gameFrameTimes);
+        if (gameFrameTimes.getMax() > slowestFrameNanos) {
+            slowestFrameNanos = gameFrameTimes.getMax();
+            slowestFrameSeed = result.getSeed();
+        }
+    }
+
+    /**
+     * Merging the result of another part of the batch into this one.
+     * @param other The other part's result.
+     * @return This result.
+     */
+    public BatchResult merge(BatchResult other) {
+        games += other.games;
+        won += other.won;
+        lost += other.lost;
+        frames += other.frames;
+        frameTimes.add(other.frameTimes);
+        if (other.slowestFrameNanos > slowestFrameNanos) {
+            slowestFrameNanos = other.slowestFrameNanos;
+            slowestFrameSeed = other.slowestFrameSeed;
+        }
+        return this;
+    }
+
+    /**
+     * Setter for the real time the whole batch took.
+     * @param wallNanos The time, in nanoseconds.
+     */
+    public void setWallNanos(long wallNanos) {
+        this.wallNanos = wallNanos;
+    }
+
+    /**
+     * @return The number of games in the batch.
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * @return The number of simulated frames in all the games.
+     */
+    public long getFrames() {
+        return frames;
+    }
+
+    /**
+     * @return The share of the games that ended with a win.
+     */
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) won / games;
+    }
+
+    /**
+     * @return The wall time of every frame of every game.
+     */
+    public LatencyHistogram getFrameTimes() {
+        return frameTimes;
+    }
+
+    /**
+     * @return The seed of the game with the slowest frame, to reproduce it with.
+     */
+    public long getSlowestFrameSeed() {
+        return slowestFrameSeed;
+    }
+
+    /**
+     * @return How many games were completed in every real second.
+     */
+    public double getGamesPerSecond() {
+        return wallNanos == 0 ? 0 : games / (wallNanos / NANOS_IN_SECOND);
+    }
+
+    /**
+     * @return How many frames were simulated in every real second.
+     */
+    public double getFramesPerSecond() {
+        return wallNanos == 0 ? 0 : frames / (wallNanos / NANOS_IN_SECOND);
+    }
+
+    /**
+     * @return A readable summary of the batch.
+     */
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder(String.format(
+                "%d games (%d won, %d lost, %d unfinished, %.1f%% win rate), %d frames, " +
+                        "in %.3f wall seconds%n" +
+                        "%.1f games/s, %.0f frames/s%nframe time:",
+                games, won, lost, games - won - lost, getWinRate() * 100, frames, wallNanos / NANOS_IN_SECOND,
+                getGamesPerSecond(), getFramesPerSecond()));
+        for (double percentile : PERCENTILES) {
+            summary.append(String.format(" p%s %.1f us,", percentile == 99.9 ? "999" :
+                    String.valueOf((int) percentile), frameTimes.getPercentile(percentile) / 1e3));
+        }
+        summary.append(String.format(" max %.1f us (seed %d)", slowestFrameNanos / 1e3, slowestFrameSeed));
+        return summary.toString();
+    }
+}
@@ -0,0 +1,147 @@
+package bricker.main;
+
+import bricker.Constants;
+import bricker.RandomStreams;
+import bricker.profiling.FramePhase;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs a batch of independent headless games in parallel on a work-stealing pool.
+ * Game i of a batch plays on the i-th board size, cycling through the sizes, and is seeded with
+ * the i-th game seed split from the batch's seed. Every game, and so the whole batch, is
+ * reproducible no matter how the games are scheduled. Every thread keeps a simulation per board
+ * size, which restarts its game in place for every game the thread runs on that board size.
+ */
+public class BatchRunner {
+    private static final float DELTA_TIME = 1 / 60f;
+    private static final int MAX_FRAMES = 60 * 60 * 10;
+    private static final int DEFAULT_GAMES = 256;
+
+    private final int[][] boardSizes;
+    private final RandomStreams randomStreams;
+    private final int maxFrames;
+    private final ThreadLocal<HeadlessSimulation[]> simulations;
+
+    /**
+     * Constructor.
+     * @param boardSizes The number of brick lines and of bricks per line of every board size.
+     * @param seed The seed of the batch.
+     * @param maxFrames The maximal number of frames to simulate in every game.
+     */
+    public BatchRunner(int[][] boardSizes, long seed, int maxFrames) {
+        this.boardSizes = boardSizes;
+        this.randomStreams = new RandomStreams(seed);
+        this.maxFrames = maxFrames;
+        this.simulations = ThreadLocal.withInitial(() -> new HeadlessSimulation[boardSizes.length]);
+    }
+
+    /**
+     * Runs a batch of games.
+     * @param games The number of games.
+     * @param pool The pool the games run on.
+     * @return The aggregated results of the games.
+     */
+    public BatchResult run(int games, ForkJoinPool pool) {
+        long start = System.nanoTime();
+        BatchResult result = pool.invoke(new Games(0, games));
+        result.setWallNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Runs a single game of the batch.
+     * @param game The index of the game.
+     * @return The result of the game.
+     */
+    private BatchResult runGame(int game) {
+        int size = game % boardSizes.length;
+        long seed = randomStreams.forGame(game).getSeed();
+        HeadlessSimulation[] threadSimulations = simulations.get();
+        if (threadSimulations[size] == null) {
+            threadSimulations[size] = new HeadlessSimulation(boardSizes[size][0], boardSizes[size][1],
+                    DELTA_TIME, seed);
+        }
+        HeadlessSimulation simulation = threadSimulations[size];
+        SimulationResult gameResult = simulation.run(maxFrames, seed);
+        BatchResult result = new BatchResult();
+        result.add(gameResult, simulation.getGameManager().getProfiler().getPhase(FramePhase.FRAME));
+        return result;
+    }
+
+    /**
+     * Runs a batch and prints its results.
+     * @param args Optional number of games, number of threads, seed, and comma separated board
+     *             sizes such as "7x8,50x50".
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) :
+                Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : RandomStreams.defaultSeed();
+        int[][] boardSizes = args.length > 3 ? parseBoardSizes(args[3]) :
+                new int[][]{{Constants.DEFAULT_AMOUNT_OF_BRICK_LINES,
+                        Constants.DEFAULT_AMOUNT_OF_BRICKS_PER_LINE}};
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            System.out.println("seed " + seed + ", " + threads + " threads");
+            System.out.println(new BatchRunner(boardSizes, seed, MAX_FRAMES).run(games, pool));
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * @param boardSizes Comma separated board sizes such as "7x8,50x50".
+     * @return The number of brick lines and of bricks per line of every board size.
+     */
+    private static int[][] parseBoardSizes(String boardSizes) {
+        String[] sizes = boardSizes.split(",");
+        int[][] parsed = new int[sizes.length][];
+        for (int i = 0; i < sizes.length; i++) {
+            String[] size = sizes[i].split("x");
+            parsed[i] = new int[]{Integer.parseInt(size[0]), Integer.parseInt(size[1])};
+        }
+        return parsed;
+    }
+
+    /**
+     * Runs a range of the batch's games by splitting it in halves until a single game is left,
+     * so idle threads steal the larger halves first.
+     */
+    private class Games extends RecursiveTask<BatchResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final int first;
+        private final int end;
+
+        /**
+         * Constructor.
+         * @param first The index of the range's first game.
+         * @param end The index after the range's last game.
+         */
+        Games(int first, int end) {
+            this.first = first;
+            this.end = end;
+        }
+
+        /**
+         * @return The aggregated results of the range's games.
+         */
+        @Override
+        protected BatchResult compute() {
+            if (end - first == 0) {
+                return new BatchResult();
+            }
+            if (end - first == 1) {
+                return runGame(first);
+            }
+            int middle = (first + end) >>> 1;
+            Games firstHalf = new Games(first, middle);
+            firstHalf.fork();
+            BatchResult result = new Games(middle, end).compute();
+            return result.merge(firstHalf.join());
+        }
+    }
+}
@@ -1,39 +1,105 @@
 package bricker.main;
 
+import bricker.AssetRegistry;
 import bricker.Constants;
+import bricker.RandomStream;
+import bricker.RandomStreams;
+import bricker.SoundMixer;
+import bricker.WorldCommandBuffer;
 import bricker.brick_strategies.*;
 import bricker.gameobjects.*;
+import bricker.hud.Hud;
+import bricker.level.Level;
+import bricker.profiling.Degradation;
+import bricker.profiling.FramePhase;
+import bricker.profiling.FrameProfiler;
+import bricker.profiling.LoadGovernor;
+import bricker.replay.FrameInput;
+import bricker.replay.FrameInputListener;
+import bricker.replay.InputRecorder;
 import danogl.GameManager;
 import danogl.GameObject;
 import danogl.collisions.Layer;
 import danogl.components.CoordinateSpace;
 import danogl.gui.*;
+import danogl.gui.rendering.Camera;
 import danogl.gui.rendering.Renderable;
 import danogl.gui.rendering.TextRenderable;
 import danogl.util.Counter;
 import danogl.util.Vector2;
 import java.awt.*;
 import java.awt.event.KeyEvent;
-import java.util.Random;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntSupplier;
 
 /**
  * A class that manages the game bricker.
+ * A game that ends does not block on a dialog: it freezes and prompts the user to press Y to
+ * play again or N to quit. Playing again restarts the game in place, reusing the bricks, the
+ * decoded assets and every other object of the world, and restoring them to how a new game
+ * with the next seed starts.
+ * Between frames, the whole world can be written into a compact snapshot and restored from it
+ * later, in place, for save states and rollback.
+ * The game is simulated in fixed ticks, no matter how long the frames take: every frame runs
+ * the ticks its time adds up to, and the moving objects are rendered between their positions of
+ * the last two ticks.
  */
 public class BrickerGameManager extends GameManager {
+    private static final int SNAPSHOT_MAGIC = 0x42524b53; // "BRKS"
+    private static final int SNAPSHOT_VERSION = 1;
+    // the position and velocity of a game object.
+    private static final int MOTION_SIZE = 4 * Float.BYTES;
+
     private Ball ball;
+    private PackBallSystem packBalls;
     private Vector2 windowDimensions;
+    private Vector2 windowCenter;
     private WindowController windowController;
     private final int rowsWithBricks;
     private final int bricksPerRow;
     private Counter livesCounter;
-    private Counter previousLives;
-    private GameObject numericLives;
     private Counter totalBricksCounter;
     private Counter paddleCounter;
-    private ImageReader imageReader;
-    private SoundReader soundReader;
+    private AssetRegistry assets;
     private UserInputListener inputListener;
-    private final GameObject[] heartsArray;
+    private int framesPerSecond;
+    private int frameRateSampleFrames;
+    private float frameRateSampleSeconds;
+    private final FrameProfiler profiler = new FrameProfiler();
+    private final SoundMixer soundMixer = new SoundMixer(Constants.SOUND_VOICES,
+            Constants.SOUND_VOICE_SECONDS, Constants.SOUND_MERGE_SECONDS);
+    private boolean exportKeyDown;
+    private final SplittableRandom gameSeeds;
+    private long nextGameSeed;
+    private long gameSeed;
+    private RandomStreams gameRandomStreams;
+    private RandomStream ballRandom;
+    private FrameInput frameInput;
+    private String recordingPrefix;
+    private WorldCommandBuffer commands;
+    private Level level;
+    private GameState state;
+    private TextRenderable prompt;
+    private Paddle mainPaddle;
+    private Vector2 paddleStartCenter;
+    private StrategiesFactory strategiesFactory;
+    private BrickGrid brickGrid;
+    private Brick[] bricks;
+    private float tickDuration = 1f / Constants.DEFAULT_TICK_RATE;
+    private float tickTimeLeft;
+    private RenderClock renderClock;
+    private LifecycleManager lifecycle;
+    private LoadGovernor loadGovernor;
+    private int[] brickCells;
+    private int[] brickCodes;
+    private int[] snapshotCodes;
 
     /**
      * Constructor.
@@ -42,14 +108,8 @@ public class BrickerGameManager extends GameManager {
      */
     BrickerGameManager(String windowTitle,
                        Vector2 windowDimensions){
-        super(windowTitle, windowDimensions);
-        this.rowsWithBricks = Constants.DEFAULT_AMOUNT_OF_BRICK_LINES;
-        this.bricksPerRow = Constants.DEFAULT_AMOUNT_OF_BRICKS_PER_LINE;
-        this.livesCounter = new Counter(Constants.DEFAULT_NUMBER_OF_LIVES);
-        this.previousLives = new Counter(Constants.DEFAULT_NUMBER_OF_LIVES);
-        this.totalBricksCounter = new Counter(rowsWithBricks*bricksPerRow);
-        this.paddleCounter = new Counter(0);
-        this.heartsArray = new GameObject[Constants.MAXIMAL_NUMBER_LIVES];
+        this(windowTitle, windowDimensions, Constants.DEFAULT_AMOUNT_OF_BRICK_LINES,
+                Constants.DEFAULT_AMOUNT_OF_BRICKS_PER_LINE);
     }
 
     /**
@@ -63,14 +123,32 @@ public class BrickerGameManager extends GameManager {
                        Vector2 windowDimensions,
                        int numberOfBrickLines,
                        int numberOfBricksPerLine) {
+        this(windowTitle, windowDimensions, numberOfBrickLines, numberOfBricksPerLine,
+                RandomStreams.defaultSeed());
+    }
+
+    /**
+     * Constructor.
+     * @param windowTitle The title of the window.
+     * @param windowDimensions The dimensions of the window.
+     * @param numberOfBrickLines The number of brick lines.
+     * @param numberOfBricksPerLine The number of bricks per line.
+     * @param seed The seed of the first game. Every later game, after a reset, is seeded
+     *             with a seed drawn from it.
+     */
+    BrickerGameManager(String windowTitle,
+                       Vector2 windowDimensions,
+                       int numberOfBrickLines,
+                       int numberOfBricksPerLine,
+                       long seed) {
         super(windowTitle, windowDimensions);
         this.rowsWithBricks = numberOfBrickLines;
         this.bricksPerRow = numberOfBricksPerLine;
         this.livesCounter = new Counter(Constants.DEFAULT_NUMBER_OF_LIVES);
-        this.previousLives = new Counter(Constants.DEFAULT_NUMBER_OF_LIVES);
         this.totalBricksCounter = new Counter(rowsWithBricks*bricksPerRow);
         this.paddleCounter = new Counter(0);
-        this.heartsArray = new GameObject[Constants.MAXIMAL_NUMBER_LIVES];
+        this.gameSeeds = new SplittableRandom(seed);
+        this.nextGameSeed = seed;
     }
 
     /**
@@ -94,29 +172,40 @@ public class BrickerGameManager extends GameManager {
                 inputListener, windowController);
 
         this.livesCounter = new Counter(Constants.DEFAULT_NUMBER_OF_LIVES);
-        this.previousLives = new Counter(Constants.DEFAULT_NUMBER_OF_LIVES);
-        this.totalBricksCounter = new Counter(rowsWithBricks*bricksPerRow);
+        this.totalBricksCounter = new Counter(level == null ?
+                rowsWithBricks*bricksPerRow : level.getBrickCount());
         this.windowController = windowController;
         this.windowDimensions = windowController.getWindowDimensions();
-        this.imageReader = imageReader;
-        this.soundReader = soundReader;
-        this.inputListener = inputListener;
+        this.windowCenter = windowDimensions.mult(Constants.SCREEN_CENTER);
+        this.assets = new AssetRegistry(imageReader, soundReader);
+        assets.preload();
+        this.frameInput = new FrameInput(inputListener);
+        this.inputListener = new FrameInputListener(frameInput, inputListener);
         this.paddleCounter = new Counter(0);
+        this.commands = new WorldCommandBuffer(gameObjects());
+        this.gameSeed = nextGameSeed;
+        this.nextGameSeed = gameSeeds.nextLong();
+        this.gameRandomStreams = new RandomStreams(gameSeed);
+        this.ballRandom = gameRandomStreams.stream(Constants.BALL_RANDOM_STREAM);
+        this.state = GameState.PLAYING;
+        this.tickTimeLeft = 0;
+        this.renderClock = new RenderClock();
+        this.lifecycle = new LifecycleManager(windowDimensions);
 
         addBall();
         ball.setTag(Constants.MAIN_BALL_TAG);
+        addPackBalls();
         addPaddle();
         addWalls();
         addBackground();
         addBricks();
-        createHearts(imageReader);
-        displayHearts();
-        this.numericLives = createNumericLives();
-        gameObjects().addGameObject(numericLives, Layer.BACKGROUND);
+        addHud();
+        startRecording();
     }
 
     /**
-     *
+     * Running the ticks the frame's time adds up to, at most {@link Constants#MAX_TICKS_PER_FRAME},
+     * and keeping what is left of it for the next frame.
      * @param deltaTime The time, in seconds, that passed since the last invocation
      *                  of this method (i.e., since the last frame). This is useful
      *                  for either accumulating the total time that passed since some
@@ -127,39 +216,324 @@ public class BrickerGameManager extends GameManager {
      */
     @Override
     public void update(float deltaTime) {
-        super.update(deltaTime);
+        if (state != GameState.PLAYING) {
+            checkPromptAnswer();
+            return;
+        }
+        long frameStart = profiler.now();
+        tickTimeLeft += deltaTime;
+        int ticks = 0;
+        while (tickTimeLeft >= tickDuration && state == GameState.PLAYING) {
+            if (ticks == Constants.MAX_TICKS_PER_FRAME) {
+                tickTimeLeft = 0;
+                break;
+            }
+            tick();
+            tickTimeLeft -= tickDuration;
+            ticks++;
+        }
+        renderClock.setAlpha(tickTimeLeft / tickDuration);
+        long phaseStart = profiler.now();
+        measureFrameRate(deltaTime);
+        governLoad(deltaTime);
+        phaseStart = profiler.record(FramePhase.FRAME_RATE, phaseStart);
+        checkIfPressedP();
+        profiler.record(FramePhase.EXPORT_KEY, phaseStart);
+        profiler.record(FramePhase.FRAME, frameStart);
+    }
+
+    /**
+     * Simulating a single tick: latching the keys, updating and colliding the objects, applying
+     * the strategies' changes and checking the game's rules.
+     */
+    private void tick() {
+        long tickStart = profiler.now();
+        frameInput.latch(tickDuration);
+        renderClock.advance();
+        super.update(tickDuration);
+        long phaseStart = profiler.record(FramePhase.OBJECTS, tickStart);
+        commands.apply();
+        phaseStart = profiler.record(FramePhase.COMMANDS, phaseStart);
+        lifecycle.update();
+        phaseStart = profiler.record(FramePhase.LIFECYCLE, phaseStart);
         checkForBallDropped();
+        phaseStart = profiler.record(FramePhase.BALL_DROPPED, phaseStart);
         checkWinLose();
-        updateNumericLivesDisplay();
-        checkForChangeInLifeValue();
+        phaseStart = profiler.record(FramePhase.WIN_LOSE, phaseStart);
         checkIfPressedW();
+        phaseStart = profiler.record(FramePhase.KEYS, phaseStart);
         calibrateCamera();
+        profiler.record(FramePhase.CAMERA, phaseStart);
+    }
+
+    /**
+     * Restarting the game in place with a given seed.
+     * Nothing is read or built again: the extra paddles, falling hearts and packs are removed,
+     * the hit bricks are put back into the grid and the game, the strategies of a rolled board
+     * are rolled again from the seed, and the ball, the paddle, the counters and the camera are
+     * reset. The game then plays exactly like a new game with the seed.
+     * @param seed The seed of the new game.
+     */
+    public void restart(long seed) {
+        gameSeed = seed;
+        gameRandomStreams = new RandomStreams(seed);
+        ballRandom = gameRandomStreams.stream(Constants.BALL_RANDOM_STREAM);
+        setState(GameState.PLAYING);
+        commands.clear();
+        setCamera(null);
+
+        retireExtraObjects();
+        packBalls.clear();
+        setCounter(livesCounter, Constants.DEFAULT_NUMBER_OF_LIVES);
+        ball.setCenter(windowCenter);
+        setRandomVelocity(ball);
+        ball.setCollisionCounter();
+        mainPaddle.setCenter(paddleStartCenter);
+        mainPaddle.setHitCount(0);
+        snapRenderPositions();
+        resetBricks();
+        tickTimeLeft = 0;
+        framesPerSecond = 0;
+        frameRateSampleFrames = 0;
+        frameRateSampleSeconds = 0;
+        startRecording();
+    }
+
+    /**
+     * Getter for the size of a snapshot of the world as it is now.
+     * @return The number of bytes {@link #writeSnapshot} writes.
+     */
+    public int getSnapshotSize() {
+        return 5 * Integer.BYTES + Long.BYTES + 2 + 3 * Long.BYTES + 3 * Integer.BYTES +
+                2 * (MOTION_SIZE + Integer.BYTES) +
+                Integer.BYTES + getExtraPaddles().size() * (MOTION_SIZE + Integer.BYTES) +
+                Integer.BYTES + strategiesFactory.getExtraHeartStrategy().getFallingHearts().size() *
+                MOTION_SIZE +
+                packBalls.getStateSize() +
+                bricks.length * Integer.BYTES + (bricks.length + Long.SIZE - 1) / Long.SIZE * Long.BYTES;
+    }
+
+    /**
+     * Writing the whole world into a snapshot, between frames: the seed, the state and the random
+     * streams of the game, the counters, the camera, the position and velocity of the ball,
+     * the paddles, the falling hearts and the packs, and the strategy of every brick with a bit
+     * for each brick that was not hit yet.
+     * @param buffer The buffer to write to, with at least {@link #getSnapshotSize} bytes remaining.
+     */
+    public void writeSnapshot(ByteBuffer buffer) {
+        buffer.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION)
+                .putInt(brickGrid.getRows()).putInt(brickGrid.getColumns()).putInt(bricks.length);
+        buffer.putLong(gameSeed).put((byte) state.ordinal()).put((byte) (camera() == null ? 0 : 1));
+        buffer.putLong(ballRandom.getState())
+                .putLong(strategiesFactory.getRandom().getState())
+                .putLong(strategiesFactory.getExtraBallStrategy().getRandom().getState());
+        buffer.putInt(livesCounter.value()).putInt(paddleCounter.value())
+                .putInt(totalBricksCounter.value());
+
+        writeMotion(buffer, ball);
+        buffer.putInt(ball.getCollisionCounter());
+        writeMotion(buffer, mainPaddle);
+        buffer.putInt(mainPaddle.getHitCount());
+        List<Paddle> extraPaddles = getExtraPaddles();
+        buffer.putInt(extraPaddles.size());
+        for (Paddle paddle : extraPaddles) {
+            writeMotion(buffer, paddle);
+            buffer.putInt(paddle.getHitCount());
+        }
+        List<FallingHeart> hearts = strategiesFactory.getExtraHeartStrategy().getFallingHearts();
+        buffer.putInt(hearts.size());
+        for (FallingHeart heart : hearts) {
+            writeMotion(buffer, heart);
+        }
+        packBalls.writeState(buffer);
+
+        buffer.asIntBuffer().put(brickCodes);
+        buffer.position(buffer.position() + brickCodes.length * Integer.BYTES);
+        for (int first = 0; first < bricks.length; first += Long.SIZE) {
+            buffer.putLong(getBricksInGame(first));
+        }
+    }
+
+    /**
+     * Restoring the world, in place, from a snapshot of the same board, between frames.
+     * The extra paddles and falling hearts are retired and taken from their pools again, the
+     * bricks that the snapshot holds and the game does not are put back, the bricks the game
+     * holds and the snapshot does not are removed, and everything else is set to its value in
+     * the snapshot. The game then plays on exactly like the game the snapshot was written from.
+     * Restoring stops recording the keys, since a recording replays a game from its start.
+     * @param buffer The buffer to read from, positioned at a snapshot.
+     * @throws IllegalArgumentException If the buffer does not hold a snapshot of the board.
+     */
+    public void readSnapshot(ByteBuffer buffer) {
+        if (buffer.getInt() != SNAPSHOT_MAGIC) {
+            throw new IllegalArgumentException("not a snapshot");
+        }
+        int version = buffer.getInt();
+        if (version != SNAPSHOT_VERSION) {
+            throw new IllegalArgumentException("unsupported snapshot version " + version);
+        }
+        if (buffer.getInt() != brickGrid.getRows() || buffer.getInt() != brickGrid.getColumns() ||
+                buffer.getInt() != bricks.length) {
+            throw new IllegalArgumentException("snapshot of a different board");
+        }
+        gameSeed = buffer.getLong();
+        gameRandomStreams = new RandomStreams(gameSeed);
+        GameState snapshotState = GameState.values()[buffer.get()];
+        boolean followsBall = buffer.get() != 0;
+        ballRandom.setState(buffer.getLong());
+        strategiesFactory.getRandom().setState(buffer.getLong());
+        strategiesFactory.getExtraBallStrategy().getRandom().setState(buffer.getLong());
+        int lives = buffer.getInt();
+        int paddles = buffer.getInt();
+        int bricksLeft = buffer.getInt();
+
+        frameInput.stopRecording();
+        commands.clear();
+        retireExtraObjects();
+        readMotion(buffer, ball);
+        ball.setCollisionCounter(buffer.getInt());
+        readMotion(buffer, mainPaddle);
+        mainPaddle.setHitCount(buffer.getInt());
+        int extraPaddles = buffer.getInt();
+        for (int i = 0; i < extraPaddles; i++) {
+            Paddle paddle = strategiesFactory.getExtraPaddleStrategy().addPaddle(Vector2.ZERO);
+            readMotion(buffer, paddle);
+            paddle.setHitCount(buffer.getInt());
+        }
+        int hearts = buffer.getInt();
+        for (int i = 0; i < hearts; i++) {
+            readMotion(buffer, strategiesFactory.getExtraHeartStrategy().addFallingHeart(Vector2.ZERO));
+        }
+        packBalls.readState(buffer);
+        readBricks(buffer);
+        commands.apply();
+        tickTimeLeft = 0;
+
+        setCounter(livesCounter, lives);
+        setCounter(paddleCounter, paddles);
+        setCounter(totalBricksCounter, bricksLeft);
+        if (!followsBall) {
+            setCamera(null);
+        }
+        else if (camera() == null) {
+            setCamera(new Camera(ball, Vector2.ZERO,
+                    windowDimensions.mult(Constants.CAMERA_VIEW_RATIO), windowDimensions));
+        }
+        setState(snapshotState);
+    }
+
+    /**
+     * Getter for the state of the game.
+     * @return The state.
+     */
+    public GameState getState() {
+        return state;
+    }
+
+    /**
+     * Getter for the manager that tracks the dynamic objects and despawns the ones that left the
+     * world.
+     * @return The game's lifecycle manager.
+     */
+    public LifecycleManager getLifecycle() {
+        return lifecycle;
+    }
+
+    /**
+     * Getter for the mixer the collision sounds are played through.
+     * @return The game's sound mixer.
+     */
+    public SoundMixer getSoundMixer() {
+        return soundMixer;
+    }
+
+    /**
+     * Getter for the profiler that times the frames and the brick strategies.
+     * @return The game's frame profiler.
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Getter for the seed of the current game.
+     * @return The seed the game can be replayed with.
+     */
+    public long getGameSeed() {
+        return gameSeed;
+    }
+
+    /**
+     * Setter for the governor that degrades the game while it does not keep up with its frame
+     * budget. The governor caps the packs, so a game that is recorded is not governed, to be
+     * replayed exactly.
+     * @param loadGovernor The governor. Can be null, in which case the game is never degraded.
+     */
+    public void setLoadGovernor(LoadGovernor loadGovernor) {
+        this.loadGovernor = loadGovernor;
+    }
+
+    /**
+     * Setter for the length of a simulation tick.
+     * @param tickDuration The time, in seconds, a tick advances the game by.
+     */
+    public void setTickDuration(float tickDuration) {
+        this.tickDuration = tickDuration;
+    }
+
+    /**
+     * Recording the keys of every game from its next start on, to a file per game named after
+     * the prefix and the game's seed.
+     * @param recordingPrefix The prefix of the recordings' paths, or null to stop recording.
+     */
+    public void setRecordingPrefix(String recordingPrefix) {
+        this.recordingPrefix = recordingPrefix;
+    }
+
+    /**
+     * Playing a level instead of a rolled board, from the next game on.
+     * @param level The level, or null to roll the board from the game's seed.
+     */
+    public void setLevel(Level level) {
+        this.level = level;
     }
 
     /**
      * The main method, runs the game.
      * @param args Standard way of writing.
+     * @throws IOException If the level file set by {@link Constants#LEVEL_PROPERTY} can not
+     *                     be read.
      */
-    public static void main(String[] args){
+    public static void main(String[] args) throws IOException {
+        BrickerGameManager gameManager;
         if (args.length == 2){
-            new BrickerGameManager("Bricker",
+            gameManager = new BrickerGameManager("Bricker",
                     new Vector2(Constants.WINDOW_WIDTH, Constants.WINDOW_LENGTH),
                     Integer.parseInt(args[0]),
-                    Integer.parseInt(args[1])).run();
+                    Integer.parseInt(args[1]));
         }
         else{
-            new BrickerGameManager("Bricker",
-                    new Vector2(Constants.WINDOW_WIDTH, Constants.WINDOW_LENGTH)).run();
+            gameManager = new BrickerGameManager("Bricker",
+                    new Vector2(Constants.WINDOW_WIDTH, Constants.WINDOW_LENGTH));
         }
+        gameManager.setRecordingPrefix(System.getProperty(Constants.RECORDING_PROPERTY));
+        gameManager.setTickDuration(1f / Integer.getInteger(Constants.TICK_RATE_PROPERTY,
+                Constants.DEFAULT_TICK_RATE));
+        if (System.getProperty(Constants.RECORDING_PROPERTY) == null) {
+            gameManager.setLoadGovernor(new LoadGovernor(1f / Constants.TARGET_FRAME_RATE));
+        }
+        String levelPath = System.getProperty(Constants.LEVEL_PROPERTY);
+        if (levelPath != null) {
+            gameManager.setLevel(Level.open(Paths.get(levelPath)));
+        }
+        gameManager.run();
     }
 
     /**
      * Adding background image to the game.
      */
     private void addBackground(){
-        Renderable backgroundRenderable = imageReader.readImage(
-                Constants.BACKGROUND_IMAGE_PATH,
-                true);
+        Renderable backgroundRenderable = assets.getImage(Constants.BACKGROUND_IMAGE_PATH);
         GameObject background = new GameObject(Vector2.ZERO,
                 windowDimensions,
                 backgroundRenderable);
@@ -168,7 +542,7 @@ public class BrickerGameManager extends GameManager {
     }
 
     /**
-     * Adding the walls of the game.
+     * Adding the walls of the game, which the ball bounces off.
      */
     private void addWalls(){
         Vector2[] wallStartingPositions = {Vector2.LEFT, Vector2.ZERO,
@@ -179,6 +553,7 @@ public class BrickerGameManager extends GameManager {
         for (int i = 0; i < wallDimension.length; i++) {
             GameObject wall = new GameObject(wallStartingPositions[i], wallDimension[i], null);
             gameObjects().addGameObject(wall, Layer.STATIC_OBJECTS);
+            ball.addWall(wall);
         }
     }
 
@@ -187,18 +562,31 @@ public class BrickerGameManager extends GameManager {
      */
     private void addBall(){
 
-        Renderable ballRenderer = imageReader.readImage(Constants.BALL_IMAGE_PATH,
-                true);
-        Sound collitionSound = soundReader.readSound(
-                Constants.BALL_SOUND_PATH);
+        Renderable ballRenderer = assets.getImage(Constants.BALL_IMAGE_PATH);
+        Sound collitionSound = assets.getSound(Constants.BALL_SOUND_PATH);
         Ball ball = new Ball(Vector2.ZERO, new Vector2(Constants.BALL_SIZE, Constants.BALL_SIZE),
                             ballRenderer, collitionSound);
-        ball.setCenter(windowDimensions.mult(Constants.SCREEN_CENTER));
+        ball.setCenter(windowCenter);
         setRandomVelocity(ball);
+        ball.interpolate(renderClock);
+        ball.setSoundMixer(soundMixer);
         gameObjects().addGameObject(ball);
         this.ball = ball;
     }
 
+    /**
+     * Adding the system that holds the packs the extra ball strategy spawns.
+     */
+    private void addPackBalls(){
+        packBalls = new PackBallSystem(windowDimensions,
+                assets.getImage(Constants.MOCK_BALL_IMAGE_PATH),
+                assets.getSound(Constants.BALL_SOUND_PATH));
+        packBalls.interpolate(renderClock);
+        packBalls.setSoundMixer(soundMixer);
+        lifecycle.countSystem(Constants.PACK_BALL_TAG, packBalls::getCount);
+        gameObjects().addGameObject(packBalls, Constants.PACK_BALL_LAYER);
+    }
+
     /**
      * Assigns a ball object a random velocity.
      * @param object A GameObject instance.
@@ -206,10 +594,9 @@ public class BrickerGameManager extends GameManager {
     private void setRandomVelocity(GameObject object) {
         float ballVelX = Constants.BALL_SPEED;
         float ballVelY = Constants.BALL_SPEED;
-        Random rand = new Random();
-        if (rand.nextBoolean())
+        if (ballRandom.nextBoolean())
             ballVelX *= Constants.DIAGONAL_DIRECTION;
-        if (rand.nextBoolean())
+        if (ballRandom.nextBoolean())
             ballVelY *= Constants.DIAGONAL_DIRECTION;
         object.setVelocity(new Vector2(ballVelX, ballVelY));
     }
@@ -218,60 +605,271 @@ public class BrickerGameManager extends GameManager {
      * Adding a new paddle to the game.
      */
     private void addPaddle(){
-        Renderable paddleImage = imageReader.readImage(Constants.PADDLE_IMAGE_PATH,
-                true);
-        GameObject userPaddle = new Paddle(
+        Renderable paddleImage = assets.getImage(Constants.PADDLE_IMAGE_PATH);
+        Paddle userPaddle = new Paddle(
                 Vector2.ZERO,
                 new Vector2(Constants.PADDLE_WIDTH, Constants.PADDLE_HEIGHT),
                 paddleImage,
                 inputListener,
                 windowDimensions, Double.POSITIVE_INFINITY, gameObjects(), paddleCounter);
-        userPaddle.setCenter(new Vector2(windowDimensions.x() / 2,
-                windowDimensions.y() - Constants.PADDLE_DISTANCE_FROM_END));
+        paddleStartCenter = new Vector2(windowDimensions.x() / 2,
+                windowDimensions.y() - Constants.PADDLE_DISTANCE_FROM_END);
+        userPaddle.setCenter(paddleStartCenter);
         userPaddle.setTag(Constants.MAIN_PADDLE_TAG);
+        userPaddle.interpolate(renderClock);
+        mainPaddle = userPaddle;
         gameObjects().addGameObject(userPaddle, Layer.DEFAULT);
+        packBalls.addPaddle(userPaddle);
+        ball.setPaddles(packBalls.getPaddles());
     }
 
     /**
-     * Loading the game with all bricks.
+     * Loading the game with all bricks, from the level if one is set, and otherwise across the
+     * window with strategies rolled from the game's seed. The bricks are not rendered one by one,
+     * but all together by a {@link BrickLayer}.
      */
     private void addBricks() {
-        StrategiesFactory strategiesFactory = new StrategiesFactory(this, gameObjects(), imageReader,
-                inputListener, windowController, soundReader, livesCounter, paddleCounter);
-        Renderable brickImage = imageReader.readImage(Constants.BRICK_IMAGE_PATH, true);
-        int brickWidth = (int) ((windowDimensions.x() -
-                2* ( Constants.WALL_THICKNESS + Constants.BUFFER_BETWEEN_BRICKS)) /
-                                (bricksPerRow + Constants.BRICK_SPACER));
-        float totalBrickWidth = brickWidth * bricksPerRow;
-        float totalMarginWidth = windowDimensions.x() - totalBrickWidth;
-        float marginX = totalMarginWidth / (bricksPerRow + Constants.WALL_SPACER);
-        float marginY = Constants.BUFFER_BETWEEN_BRICKS;
-        for(int i = 0; i<rowsWithBricks; i++){
-            for(int j =0; j<bricksPerRow;j++){
-
-                CollisionStrategy collisionStrategy = strategiesFactory.build();
-
-                float xPosition = (marginX + j * (brickWidth + marginX));
-                float yPosition =Constants.WALL_THICKNESS + (marginY + i *
-                                                            (Constants.BRICK_HEIGHT + marginY));
-                Vector2 brickPosition = new Vector2(xPosition, yPosition);
-
-                GameObject brick = new Brick(brickPosition, new Vector2(brickWidth, Constants.BRICK_HEIGHT),
-                        brickImage, collisionStrategy, totalBricksCounter);
-                gameObjects().addGameObject(brick, Layer.DEFAULT);
+        brickGrid = level == null ?
+                BrickGrid.forWindow(rowsWithBricks, bricksPerRow, windowDimensions.x()) :
+                level.createGrid();
+        bricks = new Brick[totalBricksCounter.value()];
+        brickCells = new int[bricks.length];
+        brickCodes = new int[bricks.length];
+        strategiesFactory = new StrategiesFactory(this, gameObjects(), commands,
+                assets, inputListener, windowController, livesCounter, paddleCounter, packBalls,
+                gameRandomStreams);
+        strategiesFactory.setRenderClock(renderClock);
+        strategiesFactory.setLifecycle(lifecycle);
+
+        // the balls collide with the bricks through the grid only, and the edge bricks that
+        // touch the walls are not hit by them.
+        gameObjects().layers().shouldLayersCollide(Constants.BRICK_LAYER, Layer.DEFAULT, false);
+        gameObjects().layers().shouldLayersCollide(Constants.BRICK_LAYER, Layer.STATIC_OBJECTS,
+                false);
+        gameObjects().layers().shouldLayersCollide(Constants.BRICK_LAYER, Constants.BRICK_LAYER, false);
+        Vector2 brickDimensions = brickGrid.getBrickDimensions();
+        int brickIndex = 0;
+        for(int i = 0; i<brickGrid.getRows(); i++){
+            for(int j =0; j<brickGrid.getColumns();j++){
+                int code = level == null ? strategiesFactory.buildCode() : level.getCode(i, j);
+                if (code == Level.EMPTY) {
+                    continue;
+                }
+
+                CollisionStrategy collisionStrategy = profiler.time(strategiesFactory.get(code));
+
+                Brick brick = new Brick(brickGrid.getCellTopLeftCorner(i, j), brickDimensions,
+                        null, collisionStrategy, totalBricksCounter, commands);
+                brickGrid.add(i, j, brick);
+                gameObjects().addGameObject(brick, Constants.BRICK_LAYER);
+                bricks[brickIndex] = brick;
+                brickCells[brickIndex] = i * brickGrid.getColumns() + j;
+                brickCodes[brickIndex] = code;
+                brickIndex++;
+            }
+        }
+        gameObjects().addGameObject(new BrickLayer(brickGrid, windowDimensions.x(),
+                assets.getImage(Constants.BRICK_IMAGE_PATH)), Constants.BRICK_LAYER);
+        ball.setBrickGrid(brickGrid);
+        packBalls.setBrickGrid(brickGrid);
+    }
+
+    /**
+     * Putting the hit bricks back for a new game, in the order they were added, and rolling the
+     * strategies of a rolled board again.
+     */
+    private void resetBricks() {
+        if (level == null) {
+            strategiesFactory.reseed(gameRandomStreams);
+        }
+        for (int i = 0; i < bricks.length; i++) {
+            if (level == null) {
+                brickCodes[i] = strategiesFactory.buildCode();
+                bricks[i].setStrategy(profiler.time(strategiesFactory.get(brickCodes[i])));
+            }
+            setBrickInGame(i, true);
+        }
+        setCounter(totalBricksCounter, bricks.length);
+    }
+
+    /**
+     * Reading the bricks of a snapshot: the strategy of every brick, set only on the bricks
+     * whose strategy changed, and which bricks were not hit yet.
+     * @param buffer The buffer to read from, positioned at the bricks.
+     */
+    private void readBricks(ByteBuffer buffer) {
+        if (snapshotCodes == null || snapshotCodes.length != bricks.length) {
+            snapshotCodes = new int[bricks.length];
+        }
+        buffer.asIntBuffer().get(snapshotCodes);
+        buffer.position(buffer.position() + bricks.length * Integer.BYTES);
+        int i = Arrays.mismatch(brickCodes, snapshotCodes);
+        while (i >= 0) {
+            brickCodes[i] = snapshotCodes[i];
+            bricks[i].setStrategy(profiler.time(strategiesFactory.get(brickCodes[i])));
+            int next = Arrays.mismatch(brickCodes, i + 1, bricks.length,
+                    snapshotCodes, i + 1, bricks.length);
+            i = next < 0 ? next : i + 1 + next;
+        }
+        for (int first = 0; first < bricks.length; first += Long.SIZE) {
+            // only the bricks whose bit differs from the game are put back or taken out.
+            long changed = buffer.getLong() ^ getBricksInGame(first);
+            while (changed != 0) {
+                int index = first + Long.numberOfTrailingZeros(changed);
+                setBrickInGame(index, !isBrickInGame(index));
+                changed &= changed - 1;
+            }
+        }
+    }
+
+    /**
+     * Collecting which of up to 64 bricks were not hit yet.
+     * @param first The index of the first brick.
+     * @return A bit for each brick from the first on, set if the brick was not hit yet.
+     */
+    private long getBricksInGame(int first) {
+        int last = Math.min(first + Long.SIZE, bricks.length);
+        long word = 0;
+        for (int i = first; i < last; i++) {
+            if (brickGrid.get(brickCells[i]) == bricks[i]) {
+                word |= 1L << (i - first);
+            }
+        }
+        return word;
+    }
+
+    /**
+     * Checks if a brick was not hit yet.
+     * @param index The index of the brick.
+     * @return True if the brick is in its cell of the grid.
+     */
+    private boolean isBrickInGame(int index) {
+        return brickGrid.get(brickCells[index]) == bricks[index];
+    }
+
+    /**
+     * Putting a brick back into the grid and the game, or taking it out of both.
+     * @param index The index of the brick.
+     * @param inGame True to put the brick back, false to take it out.
+     */
+    private void setBrickInGame(int index, boolean inGame) {
+        if (isBrickInGame(index) == inGame) {
+            return;
+        }
+        brickGrid.add(brickCells[index], inGame ? bricks[index] : null);
+        if (inGame) {
+            gameObjects().addGameObject(bricks[index], Constants.BRICK_LAYER);
+        }
+        else {
+            gameObjects().removeGameObject(bricks[index], Constants.BRICK_LAYER);
+        }
+    }
+
+    /**
+     * Removing the extra paddles and the falling hearts from the game, back into their pools.
+     */
+    private void retireExtraObjects() {
+        for (Paddle paddle : getExtraPaddles()) {
+            paddle.retire();
+        }
+        packBalls.dropRemovedPaddles();
+        for (FallingHeart heart : new ArrayList<>(
+                strategiesFactory.getExtraHeartStrategy().getFallingHearts())) {
+            heart.retire();
+        }
+    }
+
+    /**
+     * Getter for the extra paddles in the game.
+     * @return The paddles, besides the main paddle, that were not removed.
+     */
+    private List<Paddle> getExtraPaddles() {
+        List<Paddle> extraPaddles = new ArrayList<>();
+        for (Paddle paddle : packBalls.getPaddles()) {
+            if (paddle != mainPaddle && !paddle.isRemoved()) {
+                extraPaddles.add(paddle);
             }
         }
+        return extraPaddles;
+    }
+
+    /**
+     * Rendering the ball and the main paddle where they are, after they were moved other than by
+     * a tick.
+     */
+    private void snapRenderPositions() {
+        ball.snapRenderPosition();
+        mainPaddle.snapRenderPosition();
+    }
+
+    /**
+     * Writing the position and velocity of an object to a snapshot.
+     * @param buffer The buffer to write to.
+     * @param gameObject The object.
+     */
+    private static void writeMotion(ByteBuffer buffer, GameObject gameObject) {
+        Vector2 topLeft = gameObject.getTopLeftCorner();
+        Vector2 velocity = gameObject.getVelocity();
+        buffer.putFloat(topLeft.x()).putFloat(topLeft.y()).putFloat(velocity.x()).putFloat(velocity.y());
+    }
+
+    /**
+     * Reading the position and velocity of an object from a snapshot, and rendering the object
+     * where it was restored to.
+     * @param buffer The buffer to read from.
+     * @param gameObject The object.
+     */
+    private static void readMotion(ByteBuffer buffer, InterpolatedObject gameObject) {
+        gameObject.setTopLeftCorner(new Vector2(buffer.getFloat(), buffer.getFloat()));
+        gameObject.setVelocity(new Vector2(buffer.getFloat(), buffer.getFloat()));
+        gameObject.snapRenderPosition();
+    }
+
+    /**
+     * Setting a counter to a value.
+     * @param counter The counter.
+     * @param value The value.
+     */
+    private static void setCounter(Counter counter, int value) {
+        counter.reset();
+        counter.increaseBy(value);
+    }
+
+    /**
+     * Ending the game: freezing it and prompting the user to play again or quit.
+     * @param endState The state the game ended in, won or lost.
+     */
+    private void endGame(GameState endState) {
+        frameInput.stopRecording();
+        setState(endState);
     }
 
     /**
-     * Function to allow the user to interact with the dialog.
-     * @param prompt The prompt that is presented to the user.
+     * Setting the state of the game, and with it the end of game prompt.
+     * @param state The state.
      */
-    private void displayDialogAndActivate(String prompt) {
-        if (windowController.openYesNoDialog(prompt)) {
-            windowController.resetGame();
+    private void setState(GameState state) {
+        this.state = state;
+        if (state == GameState.PLAYING) {
+            prompt.setString("");
         }
         else {
+            prompt.setString((state == GameState.WON ? Constants.WON_PROMPT :
+                    Constants.GAME_OVER_PROMPT) + Constants.PROMPT_KEYS);
+        }
+    }
+
+    /**
+     * Checking if the user answered the end of game prompt: Y restarts the game in place with
+     * the next seed, and N closes the window.
+     */
+    private void checkPromptAnswer() {
+        if (inputListener.isKeyPressed(KeyEvent.VK_Y)) {
+            long seed = nextGameSeed;
+            nextGameSeed = gameSeeds.nextLong();
+            restart(seed);
+        }
+        else if (inputListener.isKeyPressed(KeyEvent.VK_N)) {
             windowController.closeWindow();
         }
     }
@@ -281,10 +879,10 @@ public class BrickerGameManager extends GameManager {
      */
     private void checkWinLose() {
         if (livesCounter.value() == 0) {
-            displayDialogAndActivate(Constants.GAME_OVER_PROMPT);
+            endGame(GameState.LOST);
         }
         else if (totalBricksCounter.value() == 0) {
-            displayDialogAndActivate(Constants.WON_PROMPT);
+            endGame(GameState.WON);
         }
     }
 
@@ -292,12 +890,13 @@ public class BrickerGameManager extends GameManager {
      * Checking if the ball is out of the screen.
      */
     private void checkForBallDropped() {
-        float ballHeight = ball.getCenter().y();
+        // read from the corner, as the center is computed into a new vector.
+        float ballHeight = ball.getTopLeftCorner().y() + ball.getDimensions().y() / 2;
         if (ballHeight > windowDimensions.y()){
             livesCounter.decrement();
-            updateNumericLivesDisplay();
 
-            ball.setCenter(windowDimensions.mult(Constants.SCREEN_CENTER));
+            ball.setCenter(windowCenter);
+            ball.snapRenderPosition();
             setRandomVelocity(ball);
         }
     }
@@ -306,93 +905,142 @@ public class BrickerGameManager extends GameManager {
      * If w is pressed finish the game at win.
      */
     private void checkIfPressedW() {
-        if (inputListener.isKeyPressed(KeyEvent.VK_W)){
-            displayDialogAndActivate(Constants.WON_PROMPT);
+        if (state == GameState.PLAYING && inputListener.isKeyPressed(KeyEvent.VK_W)){
+            endGame(GameState.WON);
         }
     }
 
     /**
-     * Creating an array of hearts and placing it on the screen.
-     * @param imageReader the game's image reader.
+     * If p is pressed export the frame profile and print the sound mixer's statistics, the live
+     * objects and the load governor's state, once per key press.
      */
-     private void createHearts(ImageReader imageReader) {
-         Renderable heartImageRenderable = imageReader.readImage(Constants.LIFE_IMAGE_PATH, true);
-        for (int i = 0; i < Constants.MAXIMAL_NUMBER_LIVES; i++) {
-            GameObject heart = new GameObject(new Vector2(windowDimensions.x()
-                                - Constants.HEART_SIZE, windowDimensions.y() - Constants.HEART_SIZE).add(
-                                new Vector2(- i *(Constants.HEART_BUFFER_SIZE + Constants.HEART_SIZE),
-                                        0)),
-                    new Vector2(Constants.HEART_SIZE, Constants.HEART_SIZE), heartImageRenderable);
-            heartsArray[i] = heart;
+    private void checkIfPressedP() {
+        boolean keyDown = inputListener.isKeyPressed(KeyEvent.VK_P);
+        if (keyDown && !exportKeyDown) {
+            try {
+                profiler.export(Paths.get(Constants.PROFILE_EXPORT_PATH + ".json"));
+                profiler.export(Paths.get(Constants.PROFILE_EXPORT_PATH + ".csv"));
+                System.out.println(soundMixer);
+                System.out.println(lifecycle);
+                if (loadGovernor != null) {
+                    System.out.println(loadGovernor);
+                }
+            }
+            catch (IOException e) {
+                System.err.println("Could not export the frame profile: " + e.getMessage());
+            }
         }
+        exportKeyDown = keyDown;
     }
 
     /**
-     * checking for increase or decrease in life and updating the screen accordingly.
+     * Starting to record the keys of the game, if the games are recorded.
      */
-    private void checkForChangeInLifeValue() {
-         // decrease in life
-         if (previousLives.value() > livesCounter.value()){
-             gameObjects().removeGameObject(heartsArray[previousLives.value() - 1], Layer.BACKGROUND);
-             previousLives.decrement();
-         }
-         // increase in life
-         else if (previousLives.value() < livesCounter.value()){
-             int start = previousLives.value();
-             for (int i = start; i <livesCounter.value() ; i++) {
-                gameObjects().addGameObject(heartsArray[i], Layer.BACKGROUND);
-                previousLives.increment();
-             }
-         }
+    private void startRecording() {
+        if (recordingPrefix == null) {
+            return;
+        }
+        Path path = Paths.get(recordingPrefix + "-" + gameSeed + Constants.RECORDING_EXTENSION);
+        try {
+            frameInput.setRecorder(new InputRecorder(path, gameSeed, rowsWithBricks, bricksPerRow));
+        }
+        catch (IOException e) {
+            System.err.println("Could not record the input to " + path + ": " + e.getMessage());
+        }
     }
 
     /**
-     * Updating the numeric display according to the remaining number of lives.
+     * Adding the heads-up display: the hearts and number of lives, the score, the number of
+     * bricks left, the frame rate and the end of game prompt.
      */
-    private void updateNumericLivesDisplay() {
-        gameObjects().removeGameObject(numericLives, Layer.BACKGROUND);
-        numericLives = createNumericLives();
-        gameObjects().addGameObject(numericLives, Layer.BACKGROUND);
+    private void addHud() {
+        Hud hud = new Hud(gameObjects());
+        Vector2[] heartPositions = new Vector2[Constants.MAXIMAL_NUMBER_LIVES];
+        for (int i = 0; i < heartPositions.length; i++) {
+            heartPositions[i] = new Vector2(windowDimensions.x() - Constants.HEART_SIZE
+                    - i * (Constants.HEART_BUFFER_SIZE + Constants.HEART_SIZE),
+                    windowDimensions.y() - Constants.HEART_SIZE);
+        }
+        hud.addIcons(heartPositions, new Vector2(Constants.HEART_SIZE, Constants.HEART_SIZE),
+                assets.getImage(Constants.LIFE_IMAGE_PATH), livesCounter::value);
+        hud.addText(new Vector2(
+                        windowDimensions.x() - (Constants.MAXIMAL_NUMBER_LIVES * (
+                        Constants.HEART_SIZE + Constants.HEART_BUFFER_SIZE) + Constants.HEART_BUFFER_SIZE),
+                        windowDimensions.y() - Constants.NUMERIC_LIFE_SIZE),
+                new Vector2(Constants.NUMERIC_LIFE_SIZE, Constants.NUMERIC_LIFE_SIZE),
+                "", livesCounter::value, BrickerGameManager::livesColor);
+
+        int totalBricks = totalBricksCounter.value();
+        String[] labels = {"score ", "bricks ", "fps "};
+        IntSupplier[] values = {
+                () -> totalBricks - totalBricksCounter.value(),
+                totalBricksCounter::value,
+                () -> framesPerSecond};
+        Vector2 textDimensions = new Vector2(Constants.HUD_TEXT_WIDTH, Constants.HUD_TEXT_HEIGHT);
+        for (int i = 0; i < labels.length; i++) {
+            hud.addText(new Vector2(Constants.WALL_THICKNESS + i * Constants.HUD_TEXT_WIDTH,
+                            windowDimensions.y() - Constants.HUD_TEXT_HEIGHT),
+                    textDimensions, labels[i], values[i], value -> Color.WHITE);
+        }
+        Vector2 promptDimensions = new Vector2(Constants.PROMPT_WIDTH, Constants.PROMPT_HEIGHT);
+        prompt = hud.addMessage(windowCenter.subtract(promptDimensions.mult(Constants.SCREEN_CENTER)),
+                promptDimensions, Color.WHITE);
     }
 
     /**
-     * Display the initialized hearts on the screen.
+     * The color of the numeric lives display.
+     * @param lives The number of lives.
+     * @return Green for three lives or more, yellow for two and red for less.
      */
-    private void displayHearts(){
-        for (int i = 0; i < livesCounter.value(); i++) {
-            gameObjects().addGameObject(heartsArray[i], Layer.BACKGROUND);
+    private static Color livesColor(int lives) {
+        if (lives >= 3) {
+            return Color.GREEN;
+        }
+        else if (lives == 2) {
+            return Color.YELLOW;
         }
+        return Color.RED;
     }
 
     /**
-     * Creating the display for the numeric life.
-     * @return The numeric life object.
+     * Counting frames to update the displayed frame rate a few times a second.
+     * @param deltaTime The time, in seconds, that passed since the last frame.
      */
-    private GameObject createNumericLives(){
-        TextRenderable numericRenderer = new TextRenderable(Integer.toString(livesCounter.value()));
-        if(livesCounter.value() >= 3){
-            numericRenderer.setColor(Color.GREEN);
-        }
-        else if (livesCounter.value() == 2){
-            numericRenderer.setColor(Color.YELLOW);
-        }
-        else{
-            numericRenderer.setColor(Color.RED);
+    private void measureFrameRate(float deltaTime) {
+        frameRateSampleFrames++;
+        frameRateSampleSeconds += deltaTime;
+        if (frameRateSampleSeconds >= Constants.FRAME_RATE_SAMPLE_SECONDS) {
+            framesPerSecond = Math.round(frameRateSampleFrames / frameRateSampleSeconds);
+            frameRateSampleFrames = 0;
+            frameRateSampleSeconds = 0;
         }
-        return new GameObject(new Vector2(
-                windowDimensions.x() - (Constants.MAXIMAL_NUMBER_LIVES * (
-                        Constants.HEART_SIZE + Constants.HEART_BUFFER_SIZE) + Constants.HEART_BUFFER_SIZE),
-                windowDimensions.y() - Constants.NUMERIC_LIFE_SIZE), new Vector2(
-                Constants.NUMERIC_LIFE_SIZE,Constants.NUMERIC_LIFE_SIZE),
-                numericRenderer);
     }
 
     /**
-     * Calibrating the game's camera after a number of collisions.
+     * Calibrating the game's camera after a number of collisions, or as soon as the load governor
+     * keeps the camera fixed.
      */
     private void calibrateCamera(){
-        if (ball.getCollisionCounter() >= Constants.NUMBER_OF_COLLISIONS_TO_CALIBRATE_CAMERA){
+        if (ball.getCollisionCounter() >= Constants.NUMBER_OF_COLLISIONS_TO_CALIBRATE_CAMERA ||
+                (loadGovernor != null && loadGovernor.isActive(Degradation.FIXED_CAMERA))){
             setCamera(null);
         }
     }
+
+    /**
+     * Recording the frame's time with the load governor, if there is one, and applying the
+     * degradations it turned on or off to the packs and the sounds. The camera is kept fixed
+     * by {@link #calibrateCamera}.
+     * @param deltaTime The time, in seconds, that passed since the last frame.
+     */
+    private void governLoad(float deltaTime) {
+        if (loadGovernor == null) {
+            return;
+        }
+        loadGovernor.record(deltaTime);
+        strategiesFactory.getExtraBallStrategy().setPackLimit(
+                loadGovernor.isActive(Degradation.CAP_SPAWNS) ? Constants.GOVERNED_PACK_LIMIT :
+                        Integer.MAX_VALUE);
+        soundMixer.setMuted(loadGovernor.isActive(Degradation.SKIP_SOUNDS));
+    }
 }
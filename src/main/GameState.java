@@ -0,0 +1,21 @@
+package bricker.main;
+
+/**
+ * The states of a game, from the moment it starts until the user answers the end of game prompt.
+ */
+public enum GameState {
+    /**
+     * The game is being played.
+     */
+    PLAYING,
+
+    /**
+     * The game was won, and waits for the user to play again or quit.
+     */
+    WON,
+
+    /**
+     * The game was lost, and waits for the user to play again or quit.
+     */
+    LOST
+}
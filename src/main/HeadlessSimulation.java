@@ -0,0 +1,238 @@
+package bricker.main;
+
+import bricker.Constants;
+import bricker.RandomStreams;
+import bricker.level.Level;
+import bricker.replay.FrameInput;
+import danogl.gui.WindowController;
+import danogl.util.Vector2;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.function.IntSupplier;
+
+/**
+ * Runs the bricker game without a window.
+ * The game is driven by the same manager and rules as the windowed game, but with null
+ * renderables and sounds, a stub window controller and a stub input listener. The game is
+ * stepped with a fixed delta time as fast as the CPU allows. The first game is seeded with the
+ * simulation's seed and every later game with a seed drawn from it, and every result reports the
+ * seed its game can be reproduced with. Every game after the first restarts the same manager in
+ * place, so starting a game costs next to nothing.
+ */
+public class HeadlessSimulation {
+    private static final String WINDOW_TITLE = "Bricker (headless)";
+    private static final float DEFAULT_DELTA_TIME = 1 / 60f;
+    private static final int DEFAULT_MAX_FRAMES = 60 * 60 * 10;
+
+    private final int numberOfBrickLines;
+    private final int numberOfBricksPerLine;
+    private final float deltaTime;
+    private final Vector2 windowDimensions;
+    private final SplittableRandom seeds;
+    private long nextSeed;
+    private long gameSeed;
+    private IntSupplier input;
+    private int frameKeys;
+    private String recordingPrefix;
+    private Level level;
+    private BrickerGameManager gameManager;
+    private boolean windowClosed;
+    private int frames;
+
+    /**
+     * Constructor.
+     * @param numberOfBrickLines The number of brick lines.
+     * @param numberOfBricksPerLine The number of bricks per line.
+     * @param deltaTime The fixed time, in seconds, that passes in every simulated frame.
+     */
+    public HeadlessSimulation(int numberOfBrickLines, int numberOfBricksPerLine, float deltaTime) {
+        this(numberOfBrickLines, numberOfBricksPerLine, deltaTime, RandomStreams.defaultSeed());
+    }
+
+    /**
+     * Constructor.
+     * @param numberOfBrickLines The number of brick lines.
+     * @param numberOfBricksPerLine The number of bricks per line.
+     * @param deltaTime The fixed time, in seconds, that passes in every simulated frame.
+     * @param seed The seed of the first game.
+     */
+    public HeadlessSimulation(int numberOfBrickLines, int numberOfBricksPerLine, float deltaTime,
+                              long seed) {
+        this.numberOfBrickLines = numberOfBrickLines;
+        this.numberOfBricksPerLine = numberOfBricksPerLine;
+        this.deltaTime = deltaTime;
+        this.windowDimensions = new Vector2(Constants.WINDOW_WIDTH, Constants.WINDOW_LENGTH);
+        this.seeds = new SplittableRandom(seed);
+        this.nextSeed = seed;
+        this.input = () -> 0;
+    }
+
+    /**
+     * Setter for the source of the keys of every frame. By default no key is ever pressed.
+     * @param input Supplies the keys of the next frame, see {@link FrameInput}.
+     */
+    public void setInput(IntSupplier input) {
+        this.input = input;
+    }
+
+    /**
+     * Recording the keys of every game started from now on.
+     * @param recordingPrefix The prefix of the recordings' paths, or null to not record.
+     */
+    public void setRecordingPrefix(String recordingPrefix) {
+        this.recordingPrefix = recordingPrefix;
+    }
+
+    /**
+     * Playing a level instead of a rolled board in every game started from now on.
+     * @param level The level, or null to roll the boards.
+     */
+    public void setLevel(Level level) {
+        this.level = level;
+        // the next game builds its world from the level.
+        this.gameManager = null;
+    }
+
+    /**
+     * Runs a single game until it ends or until the frame limit is reached.
+     * @param maxFrames The maximal number of frames to simulate.
+     * @return The result of the simulated game.
+     */
+    public SimulationResult run(int maxFrames) {
+        start();
+        return runStarted(maxFrames);
+    }
+
+    /**
+     * Runs a single game with a given seed until it ends or until the frame limit is reached.
+     * @param maxFrames The maximal number of frames to simulate.
+     * @param seed The seed of the game. The seeds of the games after it are still drawn from
+     *             the simulation's seed.
+     * @return The result of the simulated game.
+     */
+    public SimulationResult run(int maxFrames, long seed) {
+        start(seed);
+        return runStarted(maxFrames);
+    }
+
+    /**
+     * Runs the started game until it ends or until the frame limit is reached.
+     * @param maxFrames The maximal number of frames to simulate.
+     * @return The result of the simulated game.
+     */
+    private SimulationResult runStarted(int maxFrames) {
+        long startNanos = System.nanoTime();
+        while (frames < maxFrames && isRunning()) {
+            step();
+        }
+        long wallNanos = System.nanoTime() - startNanos;
+        GameState state = gameManager.getState();
+        return new SimulationResult(gameSeed, state == GameState.WON, state == GameState.LOST,
+                frames, frames * deltaTime, wallNanos);
+    }
+
+    /**
+     * Starts a new game, replacing the current one.
+     */
+    public void start() {
+        long seed = nextSeed;
+        nextSeed = seeds.nextLong();
+        start(seed);
+    }
+
+    /**
+     * Starts a new game with a given seed, replacing the current one. The first game builds the
+     * game manager, and every later game restarts it in place, with a fresh frame profile.
+     * @param seed The seed of the game.
+     */
+    private void start(long seed) {
+        windowClosed = false;
+        frames = 0;
+        frameKeys = 0;
+        gameSeed = seed;
+        if (gameManager != null) {
+            gameManager.setRecordingPrefix(recordingPrefix);
+            gameManager.getProfiler().reset();
+            gameManager.restart(seed);
+            return;
+        }
+        gameManager = new BrickerGameManager(WINDOW_TITLE, windowDimensions,
+                numberOfBrickLines, numberOfBricksPerLine, seed);
+        gameManager.setRecordingPrefix(recordingPrefix);
+        gameManager.setTickDuration(deltaTime);
+        gameManager.setLevel(level);
+        gameManager.initializeGame(null, null,
+                HeadlessStubs.inputListener(key -> FrameInput.isPressed(frameKeys, key)),
+                createWindowController());
+    }
+
+    /**
+     * Simulates a single frame of the current game.
+     */
+    public void step() {
+        frameKeys = input.getAsInt();
+        gameManager.update(deltaTime);
+        frames++;
+    }
+
+    /**
+     * Getter for the manager of the current game.
+     * @return The game manager.
+     */
+    public BrickerGameManager getGameManager() {
+        return gameManager;
+    }
+
+    /**
+     * Checks if the current game is still running.
+     * @return False once the game ended.
+     */
+    public boolean isRunning() {
+        return !windowClosed && gameManager.getState() == GameState.PLAYING;
+    }
+
+    /**
+     * Runs a headless game and prints how fast it ran.
+     * @param args Optional number of brick lines and number of bricks per line, optionally
+     *             followed by a file to export the game's frame profile to.
+     * @throws IOException If the level file set by {@link Constants#LEVEL_PROPERTY} can not be
+     *                     read, or the frame profile can not be exported.
+     */
+    public static void main(String[] args) throws IOException {
+        int lines = Constants.DEFAULT_AMOUNT_OF_BRICK_LINES;
+        int bricksPerLine = Constants.DEFAULT_AMOUNT_OF_BRICKS_PER_LINE;
+        if (args.length >= 2) {
+            lines = Integer.parseInt(args[0]);
+            bricksPerLine = Integer.parseInt(args[1]);
+        }
+        HeadlessSimulation simulation = new HeadlessSimulation(lines, bricksPerLine, DEFAULT_DELTA_TIME);
+        String levelPath = System.getProperty(Constants.LEVEL_PROPERTY);
+        if (levelPath != null) {
+            simulation.setLevel(Level.open(Paths.get(levelPath)));
+        }
+        SimulationResult result = simulation.run(DEFAULT_MAX_FRAMES);
+        System.out.println(result);
+        if (args.length == 3) {
+            simulation.getGameManager().getProfiler().export(Paths.get(args[2]));
+        }
+    }
+
+    /**
+     * Creates a window controller that never opens a window.
+     * @return The stub window controller.
+     */
+    private WindowController createWindowController() {
+        return HeadlessStubs.create(WindowController.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getWindowDimensions":
+                    return windowDimensions;
+                case "closeWindow":
+                    windowClosed = true;
+                    return null;
+                default:
+                    return HeadlessStubs.defaultValue(method);
+            }
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package bricker.main;
+
+import danogl.gui.UserInputListener;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+/**
+ * Stub implementations of the danogl interfaces a game needs when it runs without a window.
+ */
+public class HeadlessStubs {
+    /**
+     * Default constructor for the stubs class.
+     */
+    private HeadlessStubs() {}
+
+    /**
+     * Creates an input listener whose pressed keys are decided by a predicate. It is read every
+     * frame, so unlike the other stubs it is a plain class rather than a proxy, which would box
+     * every key code it is asked about.
+     * @param isKeyPressed Decides whether a key code is pressed.
+     * @return The stub input listener.
+     */
+    public static UserInputListener inputListener(IntPredicate isKeyPressed) {
+        return new UserInputListener() {
+            @Override
+            public boolean isKeyPressed(int keyCode) {
+                return isKeyPressed.test(keyCode);
+            }
+
+            @Override
+            public Set<Integer> pressedKeys() {
+                return Collections.emptySet();
+            }
+
+            @Override
+            public boolean wasKeyPressedThisFrame(int keyCode) {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Creates a stub implementation of an interface.
+     * @param type The interface to implement.
+     * @param handler The handler of the calls to the stub.
+     * @param <T> The type of the interface.
+     * @return The stub.
+     */
+    public static <T> T create(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return method.invoke(handler, args);
+                    }
+                    return handler.invoke(proxy, method, args);
+                }));
+    }
+
+    /**
+     * The value a stub method returns when it has nothing better to return.
+     * @param method The called method.
+     * @return Zero or false for primitive return types, null otherwise.
+     */
+    public static Object defaultValue(Method method) {
+        Class<?> type = method.getReturnType();
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        return null;
+    }
+}
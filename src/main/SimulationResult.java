@@ -0,0 +1,100 @@
+package bricker.main;
+
+/**
+ * The result of a single headless game.
+ */
+public class SimulationResult {
+    private static final double NANOS_IN_SECOND = 1e9;
+
+    private final long seed;
+    private final boolean won;
+    private final boolean lost;
+    private final int frames;
+    private final float gameSeconds;
+    private final long wallNanos;
+
+    /**
+     * Constructor.
+     * @param seed The seed of the game.
+     * @param won Whether the game ended with a win.
+     * @param lost Whether the game ended with a loss.
+     * @param frames The number of simulated frames.
+     * @param gameSeconds The simulated game time, in seconds.
+     * @param wallNanos The real time the simulation took, in nanoseconds.
+     */
+    SimulationResult(long seed, boolean won, boolean lost, int frames, float gameSeconds,
+                     long wallNanos) {
+        this.seed = seed;
+        this.won = won;
+        this.lost = lost;
+        this.frames = frames;
+        this.gameSeconds = gameSeconds;
+        this.wallNanos = wallNanos;
+    }
+
+    /**
+     * @return The seed the game can be reproduced with.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return True if the game ended with a win.
+     */
+    public boolean isWon() {
+        return won;
+    }
+
+    /**
+     * @return True if the game ended with a loss.
+     */
+    public boolean isLost() {
+        return lost;
+    }
+
+    /**
+     * @return True if the frame limit was reached before the game ended.
+     */
+    public boolean isUnfinished() {
+        return !won && !lost;
+    }
+
+    /**
+     * @return The number of simulated frames.
+     */
+    public int getFrames() {
+        return frames;
+    }
+
+    /**
+     * @return The simulated game time, in seconds.
+     */
+    public float getGameSeconds() {
+        return gameSeconds;
+    }
+
+    /**
+     * @return The real time the simulation took, in nanoseconds.
+     */
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * @return How many game seconds were simulated in every real second.
+     */
+    public double getSpeedup() {
+        return wallNanos == 0 ? 0 : gameSeconds / (wallNanos / NANOS_IN_SECOND);
+    }
+
+    /**
+     * @return A readable summary of the result.
+     */
+    @Override
+    public String toString() {
+        String outcome = won ? "won" : lost ? "lost" : "unfinished";
+        return String.format("seed %d: %s after %d frames (%.1f game seconds) in %.3f wall seconds, " +
+                        "%.0fx real time", seed, outcome, frames, gameSeconds, wallNanos / NANOS_IN_SECOND, getSpeedup());
+    }
+}
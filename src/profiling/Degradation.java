@@ -0,0 +1,23 @@
+package bricker.profiling;
+
+/**
+ * The degradations a {@link LoadGovernor} applies as the game falls behind its frame budget, in
+ * the order they are turned on. Each one trades some of the game's flair for frame time, and is
+ * turned off again, last one first, once the frame time recovers.
+ */
+public enum Degradation {
+    /**
+     * Capping the number of packs the extra ball strategy spawns into.
+     */
+    CAP_SPAWNS,
+
+    /**
+     * Skipping the collision sounds.
+     */
+    SKIP_SOUNDS,
+
+    /**
+     * Keeping the camera fixed instead of following the ball.
+     */
+    FIXED_CAMERA
+}
@@ -0,0 +1,57 @@
+package bricker.profiling;
+
+/**
+ * The phases of a frame of the game manager's update, in the order they run. The phases up to
+ * {@link #CAMERA} run in every tick of the frame, and the rest once per frame.
+ */
+public enum FramePhase {
+    /**
+     * Updating and colliding all the game objects, including the HUD.
+     */
+    OBJECTS,
+
+    /**
+     * Applying the changes the bricks' strategies queued while the objects collided.
+     */
+    COMMANDS,
+
+    /**
+     * Despawning the dynamic objects that left the world.
+     */
+    LIFECYCLE,
+
+    /**
+     * Checking if the ball dropped below the screen.
+     */
+    BALL_DROPPED,
+
+    /**
+     * Checking if the game was won or lost.
+     */
+    WIN_LOSE,
+
+    /**
+     * Checking the user's keys that change the game, once per tick.
+     */
+    KEYS,
+
+    /**
+     * Calibrating the camera.
+     */
+    CAMERA,
+
+    /**
+     * Measuring the frame rate and governing the load, once per frame.
+     */
+    FRAME_RATE,
+
+    /**
+     * Checking the key that exports the frame profile, once per frame.
+     */
+    EXPORT_KEY,
+
+    /**
+     * The whole frame.
+     */
+    FRAME
+}
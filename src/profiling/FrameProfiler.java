@@ -0,0 +1,206 @@
+package bricker.profiling;
+
+import bricker.brick_strategies.CollisionStrategy;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records a latency histogram for every phase of a frame and for every collision strategy,
+ * keyed by its strategy tag, and exports their percentiles as JSON or CSV on demand.
+ * A phase is timed by passing the time it started and getting back the time it ended, which
+ * is also the start of the next phase, so a frame reads the clock once per phase.
+ */
+public class FrameProfiler {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p999"};
+
+    private final LatencyHistogram[] phases;
+    private final Map<String, LatencyHistogram> strategies;
+    private final Map<CollisionStrategy, CollisionStrategy> timedStrategies;
+
+    /**
+     * Constructor.
+     */
+    public FrameProfiler() {
+        this.phases = new LatencyHistogram[FramePhase.values().length];
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+        this.strategies = new TreeMap<>();
+        this.timedStrategies = new IdentityHashMap<>();
+    }
+
+    /**
+     * @return The current time, in nanoseconds, to start timing a phase from.
+     */
+    public long now() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Recording a phase that just ended.
+     * @param phase The phase.
+     * @param start The time the phase started.
+     * @return The time the phase ended.
+     */
+    public long record(FramePhase phase, long start) {
+        long end = System.nanoTime();
+        phases[phase.ordinal()].record(end - start);
+        return end;
+    }
+
+    /**
+     * Wrapping a strategy so its collisions are recorded under its strategy tag.
+     * Strategies are shared between bricks, and so are their timed wrappers.
+     * @param strategy The strategy.
+     * @return The timed strategy.
+     */
+    public CollisionStrategy time(CollisionStrategy strategy) {
+        CollisionStrategy timed = timedStrategies.get(strategy);
+        if (timed == null) {
+            LatencyHistogram histogram = strategies.computeIfAbsent(strategy.getStrategyTag(),
+                    tag -> new LatencyHistogram());
+            timed = new TimedCollisionStrategy(strategy, histogram);
+            timedStrategies.put(strategy, timed);
+        }
+        return timed;
+    }
+
+    /**
+     * Getter for the histogram of a phase.
+     * @param phase The phase.
+     * @return The phase's histogram.
+     */
+    public LatencyHistogram getPhase(FramePhase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    /**
+     * Getter for the histogram of a strategy.
+     * @param strategyTag The tag of the strategy.
+     * @return The strategy's histogram, or null if no brick uses the strategy.
+     */
+    public LatencyHistogram getStrategy(String strategyTag) {
+        return strategies.get(strategyTag);
+    }
+
+    /**
+     * Removing everything recorded so far.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : phases) {
+            histogram.reset();
+        }
+        for (LatencyHistogram histogram : strategies.values()) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Exporting the histograms to a file, as CSV if the file name ends with ".csv" and as JSON
+     * otherwise. All the latencies are in nanoseconds.
+     * @param path The file.
+     * @throws IOException If the file can not be written.
+     */
+    public void export(Path path) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            if (path.getFileName().toString().endsWith(".csv")) {
+                writeCsv(writer);
+            }
+            else {
+                writeJson(writer);
+            }
+        }
+    }
+
+    /**
+     * Writing a row per histogram.
+     * @param writer The writer.
+     */
+    private void writeCsv(PrintWriter writer) {
+        writer.print("group,name,count,min,mean");
+        for (String name : PERCENTILE_NAMES) {
+            writer.print("," + name);
+        }
+        writer.println(",max");
+        for (FramePhase phase : FramePhase.values()) {
+            writeCsvRow(writer, "phase", phaseName(phase), getPhase(phase));
+        }
+        for (Map.Entry<String, LatencyHistogram> entry : strategies.entrySet()) {
+            writeCsvRow(writer, "strategy", entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Writing a histogram as a CSV row.
+     * @param writer The writer.
+     * @param group The group of the histogram.
+     * @param name The name of the histogram.
+     * @param histogram The histogram.
+     */
+    private static void writeCsvRow(PrintWriter writer, String group, String name,
+                                    LatencyHistogram histogram) {
+        writer.print(String.format(Locale.ROOT, "%s,\"%s\",%d,%d,%.1f", group, name,
+                histogram.getCount(), histogram.getMin(), histogram.getMean()));
+        for (double percentile : PERCENTILES) {
+            writer.print("," + histogram.getPercentile(percentile));
+        }
+        writer.println("," + histogram.getMax());
+    }
+
+    /**
+     * Writing the phases and the strategies as two JSON objects.
+     * @param writer The writer.
+     */
+    private void writeJson(PrintWriter writer) {
+        writer.println("{");
+        writer.println("  \"unit\": \"ns\",");
+        writer.println("  \"phases\": {");
+        FramePhase[] values = FramePhase.values();
+        for (int i = 0; i < values.length; i++) {
+            writeJsonEntry(writer, phaseName(values[i]), getPhase(values[i]), i == values.length - 1);
+        }
+        writer.println("  },");
+        writer.println("  \"strategies\": {");
+        int written = 0;
+        for (Map.Entry<String, LatencyHistogram> entry : strategies.entrySet()) {
+            written++;
+            writeJsonEntry(writer, entry.getKey(), entry.getValue(), written == strategies.size());
+        }
+        writer.println("  }");
+        writer.println("}");
+    }
+
+    /**
+     * Writing a histogram as a JSON member.
+     * @param writer The writer.
+     * @param name The name of the histogram.
+     * @param histogram The histogram.
+     * @param last True if this is the last member of its object.
+     */
+    private static void writeJsonEntry(PrintWriter writer, String name, LatencyHistogram histogram,
+                                       boolean last) {
+        writer.print(String.format(Locale.ROOT,
+                "    \"%s\": {\"count\": %d, \"min\": %d, \"mean\": %.1f", name,
+                histogram.getCount(), histogram.getMin(), histogram.getMean()));
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            writer.print(", \"" + PERCENTILE_NAMES[i] + "\": " + histogram.getPercentile(PERCENTILES[i]));
+        }
+        writer.println(", \"max\": " + histogram.getMax() + (last ? "}" : "},"));
+    }
+
+    /**
+     * @param phase A phase.
+     * @return The name the phase is exported under.
+     */
+    private static String phaseName(FramePhase phase) {
+        return phase.name().toLowerCase(Locale.ROOT);
+    }
+}
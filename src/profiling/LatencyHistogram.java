@@ -0,0 +1,145 @@
+package bricker.profiling;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of latencies in nanoseconds, with a fixed set of log-linear buckets.
+ * Every power of two is split into 16 buckets, so a reported percentile is at most about 6%
+ * above the true value. Recording a latency is a few arithmetic operations and never allocates,
+ * so the histogram can stay on in the frame loop.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts;
+    private long count;
+    private long total;
+    private long min;
+    private long max;
+
+    /**
+     * Constructor.
+     */
+    public LatencyHistogram() {
+        this.counts = new long[BUCKETS];
+        reset();
+    }
+
+    /**
+     * Recording a single latency.
+     * @param nanos The latency, in nanoseconds. Negative latencies are recorded as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts[bucketOf(value)]++;
+        count++;
+        total += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adding all the latencies recorded by another histogram.
+     * @param other The other histogram.
+     */
+    public void add(LatencyHistogram other) {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts[bucket] += other.counts[bucket];
+        }
+        count += other.count;
+        total += other.total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Removing all the recorded latencies.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        total = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    /**
+     * @return The number of recorded latencies.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return The smallest recorded latency, or zero if none was recorded.
+     */
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * @return The largest recorded latency.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * @return The mean recorded latency, or zero if none was recorded.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Getter for a percentile of the recorded latencies.
+     * @param percentile The percentile, between 0 and 100.
+     * @return The upper bound of the bucket that holds the percentile, capped by the largest
+     *         recorded latency, or zero if none was recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max((long) Math.ceil(percentile / 100 * count), 1);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Maps a latency to its bucket: values below 16 have a bucket each, and every larger power
+     * of two is split into 16 equal buckets.
+     * @param value The latency.
+     * @return The index of the bucket.
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @param bucket The index of a bucket.
+     * @return The largest latency the bucket holds.
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * width - 1;
+    }
+}
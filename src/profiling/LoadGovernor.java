@@ -0,0 +1,86 @@
+package bricker.profiling;
+
+import bricker.Constants;
+import java.util.Locale;
+
+/**
+ * Governor that watches the rolling frame time of the game and applies the ranked
+ * {@link Degradation}s while the game does not keep up with its frame budget.
+ * The frame time is averaged with an exponential moving average. While the average is over the
+ * budget by {@link Constants#GOVERNOR_OVERLOAD_RATIO}, the next degradation is turned on, and
+ * once it is back under {@link Constants#GOVERNOR_RECOVERY_RATIO} of the budget, the last one is
+ * turned off. The level changes at most once every {@link Constants#GOVERNOR_HOLD_SECONDS}, so
+ * every change has time to show in the average before the next one.
+ */
+public class LoadGovernor {
+    private static final Degradation[] DEGRADATIONS = Degradation.values();
+
+    private final float budgetSeconds;
+    private float averageSeconds;
+    private float heldSeconds;
+    private int level;
+
+    /**
+     * Constructor.
+     * @param budgetSeconds The time, in seconds, a frame may take.
+     */
+    public LoadGovernor(float budgetSeconds) {
+        this.budgetSeconds = budgetSeconds;
+        this.averageSeconds = budgetSeconds;
+    }
+
+    /**
+     * Recording the time of a frame, and turning a degradation on or off if the average frame
+     * time calls for it.
+     * @param frameSeconds The time, in seconds, the frame took.
+     */
+    public void record(float frameSeconds) {
+        averageSeconds += (frameSeconds - averageSeconds) * Constants.GOVERNOR_SMOOTHING;
+        heldSeconds += frameSeconds;
+        if (heldSeconds < Constants.GOVERNOR_HOLD_SECONDS) {
+            return;
+        }
+        if (averageSeconds > budgetSeconds * Constants.GOVERNOR_OVERLOAD_RATIO &&
+                level < DEGRADATIONS.length) {
+            level++;
+            heldSeconds = 0;
+        }
+        else if (averageSeconds < budgetSeconds * Constants.GOVERNOR_RECOVERY_RATIO && level > 0) {
+            level--;
+            heldSeconds = 0;
+        }
+    }
+
+    /**
+     * Checks if a degradation is turned on.
+     * @param degradation The degradation.
+     * @return True if the governor applies the degradation.
+     */
+    public boolean isActive(Degradation degradation) {
+        return level > degradation.ordinal();
+    }
+
+    /**
+     * @return The number of degradations that are turned on.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * @return The average frame time, in seconds.
+     */
+    public float getAverageSeconds() {
+        return averageSeconds;
+    }
+
+    /**
+     * @return A readable summary of the governor's state.
+     */
+    @Override
+    public String toString() {
+        String degradations = level == 0 ? "none" : DEGRADATIONS[level - 1].name().toLowerCase(Locale.ROOT);
+        return String.format(Locale.ROOT, "load: level %d (up to %s), average %.1f ms, budget %.1f ms",
+                level, degradations, averageSeconds * 1e3, budgetSeconds * 1e3);
+    }
+}
@@ -0,0 +1,43 @@
+package bricker.profiling;
+
+import bricker.brick_strategies.CollisionStrategy;
+import danogl.GameObject;
+
+/**
+ * Decorator that records the latency of every collision of the strategy it wraps.
+ */
+public class TimedCollisionStrategy implements CollisionStrategy {
+    private final CollisionStrategy strategy;
+    private final LatencyHistogram histogram;
+
+    /**
+     * Constructor.
+     * @param strategy The timed strategy.
+     * @param histogram The histogram the latencies are recorded to.
+     */
+    public TimedCollisionStrategy(CollisionStrategy strategy, LatencyHistogram histogram) {
+        this.strategy = strategy;
+        this.histogram = histogram;
+    }
+
+    /**
+     * Activating the wrapped strategy and recording how long it took.
+     * @param objectOne The object that had instance of the class.
+     * @param objectTwo The other object in the collision.
+     */
+    @Override
+    public void onCollision(GameObject objectOne, GameObject objectTwo) {
+        long start = System.nanoTime();
+        strategy.onCollision(objectOne, objectTwo);
+        histogram.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Getter method for the strategy tag.
+     * @return The tag of the wrapped strategy.
+     */
+    @Override
+    public String getStrategyTag() {
+        return strategy.getStrategyTag();
+    }
+}
@@ -0,0 +1,133 @@
+package bricker.replay;
+
+import danogl.gui.UserInputListener;
+import java.awt.event.KeyEvent;
+import java.io.IOException;
+
+/**
+ * The state of the keys that drive the game, latched once at the start of every frame, which is
+ * every tick of the game's fixed-step simulation.
+ * The left, right and w keys are sampled from the source listener into a bit mask, so every
+ * object sees the same keys for the whole frame, and a recorder can log the frame's keys
+ * exactly. Other keys, which do not change the game, are read from the source listener directly.
+ */
+public class FrameInput {
+    /**
+     * The number of bits a frame's keys take.
+     */
+    public static final int KEY_BITS = 3;
+
+    private static final int LEFT = 1;
+    private static final int RIGHT = 2;
+    private static final int W = 4;
+
+    private final UserInputListener source;
+    private InputRecorder recorder;
+    private int keys;
+
+    /**
+     * Constructor.
+     * @param source The listener the keys are sampled from.
+     */
+    public FrameInput(UserInputListener source) {
+        this.source = source;
+    }
+
+    /**
+     * Setter for the recorder every latched frame is logged to.
+     * @param recorder The recorder, or null to not record.
+     */
+    public void setRecorder(InputRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Sampling the keys of a new frame, and logging them if the input is recorded.
+     * A recording that fails is stopped, and the game goes on without it.
+     * @param deltaTime The time, in seconds, the frame advances the game by.
+     */
+    public void latch(float deltaTime) {
+        keys = keysOf(source);
+        if (recorder != null) {
+            try {
+                recorder.record(deltaTime, keys);
+            }
+            catch (IOException e) {
+                System.err.println("Stopped recording the input: " + e.getMessage());
+                stopRecording();
+            }
+        }
+    }
+
+    /**
+     * Closing the recorder, if the input is recorded.
+     */
+    public void stopRecording() {
+        if (recorder == null) {
+            return;
+        }
+        try {
+            recorder.close();
+        }
+        catch (IOException e) {
+            System.err.println("Could not close the input recording: " + e.getMessage());
+        }
+        recorder = null;
+    }
+
+    /**
+     * Checks if a key is pressed in the current frame.
+     * @param keyCode The key code, as in {@link KeyEvent}.
+     * @return True if the key is pressed.
+     */
+    public boolean isKeyPressed(int keyCode) {
+        int bit = bitOf(keyCode);
+        return bit != 0 ? (keys & bit) != 0 : source.isKeyPressed(keyCode);
+    }
+
+    /**
+     * Checks if a key is pressed in a frame's keys.
+     * @param keys The frame's keys.
+     * @param keyCode The key code, as in {@link KeyEvent}.
+     * @return True if the key is one of the frame's keys and is pressed.
+     */
+    public static boolean isPressed(int keys, int keyCode) {
+        return (keys & bitOf(keyCode)) != 0;
+    }
+
+    /**
+     * Sampling the keys that drive the game.
+     * @param listener The listener.
+     * @return The pressed keys, as a bit mask.
+     */
+    private static int keysOf(UserInputListener listener) {
+        int keys = 0;
+        if (listener.isKeyPressed(KeyEvent.VK_LEFT)) {
+            keys |= LEFT;
+        }
+        if (listener.isKeyPressed(KeyEvent.VK_RIGHT)) {
+            keys |= RIGHT;
+        }
+        if (listener.isKeyPressed(KeyEvent.VK_W)) {
+            keys |= W;
+        }
+        return keys;
+    }
+
+    /**
+     * @param keyCode A key code.
+     * @return The bit of the key, or zero if it does not drive the game.
+     */
+    private static int bitOf(int keyCode) {
+        switch (keyCode) {
+            case KeyEvent.VK_LEFT:
+                return LEFT;
+            case KeyEvent.VK_RIGHT:
+                return RIGHT;
+            case KeyEvent.VK_W:
+                return W;
+            default:
+                return 0;
+        }
+    }
+}
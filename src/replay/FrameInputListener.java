@@ -0,0 +1,70 @@
+package bricker.replay;
+
+import danogl.gui.UserInputListener;
+import java.awt.event.KeyEvent;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Input listener that hands the game objects the keys latched by a {@link FrameInput}, so every
+ * object that reads the keys, such as the paddles, sees the keys of the current frame.
+ * Keys that do not drive the game are read from the source listener.
+ */
+public class FrameInputListener implements UserInputListener {
+    private static final int[] GAME_KEYS = {KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT, KeyEvent.VK_W};
+
+    private final FrameInput frameInput;
+    private final UserInputListener source;
+    private final Set<Integer> pressedKeys;
+
+    /**
+     * Constructor.
+     * @param frameInput The latched keys of the frame.
+     * @param source The listener the frame input samples its keys from.
+     */
+    public FrameInputListener(FrameInput frameInput, UserInputListener source) {
+        this.frameInput = frameInput;
+        this.source = source;
+        this.pressedKeys = new HashSet<>();
+    }
+
+    /**
+     * Checks if a key is pressed in the current frame.
+     * @param keyCode The key code.
+     * @return True if the key is pressed.
+     */
+    @Override
+    public boolean isKeyPressed(int keyCode) {
+        return frameInput.isKeyPressed(keyCode);
+    }
+
+    /**
+     * Getter for the keys pressed in the current frame.
+     * @return The pressed keys, a set that is reused by the next call.
+     */
+    @Override
+    public Set<Integer> pressedKeys() {
+        pressedKeys.clear();
+        for (Integer keyCode : source.pressedKeys()) {
+            if (frameInput.isKeyPressed(keyCode)) {
+                pressedKeys.add(keyCode);
+            }
+        }
+        for (int keyCode : GAME_KEYS) {
+            if (frameInput.isKeyPressed(keyCode)) {
+                pressedKeys.add(keyCode);
+            }
+        }
+        return pressedKeys;
+    }
+
+    /**
+     * Checks if a key was pressed down in the current frame of the source listener.
+     * @param keyCode The key code.
+     * @return True if the key was pressed down in the frame.
+     */
+    @Override
+    public boolean wasKeyPressedThisFrame(int keyCode) {
+        return source.wasKeyPressedThisFrame(keyCode);
+    }
+}
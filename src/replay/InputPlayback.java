@@ -0,0 +1,125 @@
+package bricker.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Plays back a log written by {@link InputRecorder}, frame by frame.
+ * The log is memory-mapped, so its runs are decoded straight from the page cache without
+ * copying the file. A run cut short by a crash ends the playback.
+ */
+public class InputPlayback {
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int VARINT_MORE = 0x80;
+    private static final int KEYS_MASK = (1 << FrameInput.KEY_BITS) - 1;
+    private static final long TRUNCATED = -1;
+
+    private final ReplayHeader header;
+    private final MappedByteBuffer runs;
+    private final long frames;
+    private int runKeys;
+    private long runFramesLeft;
+    private long framesPlayed;
+
+    /**
+     * Constructor.
+     * @param header The header of the log.
+     * @param runs The runs of the log.
+     */
+    private InputPlayback(ReplayHeader header, MappedByteBuffer runs) {
+        this.header = header;
+        this.runs = runs;
+        this.frames = countFrames();
+    }
+
+    /**
+     * Opening a log for playback.
+     * @param path The file of the log.
+     * @return The playback, positioned before the first frame.
+     * @throws IOException If the file can not be read or is not an input recording.
+     */
+    public static InputPlayback open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            ReplayHeader header = ReplayHeader.read(buffer);
+            return new InputPlayback(header, buffer);
+        }
+    }
+
+    /**
+     * @return The header of the log.
+     */
+    public ReplayHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * @return The number of frames in the log.
+     */
+    public long getFrames() {
+        return frames;
+    }
+
+    /**
+     * @return True once every frame in the log was played.
+     */
+    public boolean isFinished() {
+        return framesPlayed >= frames;
+    }
+
+    /**
+     * Playing the next frame.
+     * @return The keys of the frame, see {@link FrameInput}, or no keys once the log ended.
+     */
+    public int nextKeys() {
+        if (runFramesLeft == 0) {
+            if (isFinished()) {
+                return 0;
+            }
+            long run = readRun(runs);
+            runKeys = (int) (run & KEYS_MASK);
+            runFramesLeft = run >>> FrameInput.KEY_BITS;
+        }
+        runFramesLeft--;
+        framesPlayed++;
+        return runKeys;
+    }
+
+    /**
+     * Counting the frames of every complete run, without moving the playback.
+     * @return The number of frames.
+     */
+    private long countFrames() {
+        ByteBuffer scan = runs.duplicate();
+        long count = 0;
+        while (scan.hasRemaining()) {
+            long run = readRun(scan);
+            if (run == TRUNCATED) {
+                break;
+            }
+            count += run >>> FrameInput.KEY_BITS;
+        }
+        return count;
+    }
+
+    /**
+     * Reading a run.
+     * @param buffer The buffer, positioned at the run.
+     * @return The run, or {@link #TRUNCATED} if the buffer ends in the middle of it.
+     */
+    private static long readRun(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; buffer.hasRemaining(); shift += VARINT_PAYLOAD_BITS) {
+            int next = buffer.get();
+            value |= (long) (next & (VARINT_MORE - 1)) << shift;
+            if ((next & VARINT_MORE) == 0) {
+                return value;
+            }
+        }
+        return TRUNCATED;
+    }
+}
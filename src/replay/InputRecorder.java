@@ -0,0 +1,90 @@
+package bricker.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Append-only log of the keys of every frame of a game.
+ * The log is a {@link ReplayHeader} followed by runs of frames with the same keys. A run is a
+ * single variable-length number, the run's length shifted above the keys' bits, so a run of up
+ * to 16 frames takes one byte and a key held for a minute takes two. A run is written as soon as
+ * the keys change, so a session that crashes loses only its last run.
+ */
+public class InputRecorder implements Closeable {
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int VARINT_MORE = 0x80;
+
+    private final DataOutputStream out;
+    private final long seed;
+    private final int numberOfBrickLines;
+    private final int numberOfBricksPerLine;
+    private boolean headerWritten;
+    private int runKeys;
+    private long runLength;
+
+    /**
+     * Constructor.
+     * @param path The file of the log, which is replaced if it exists.
+     * @param seed The seed of the game.
+     * @param numberOfBrickLines The number of brick lines.
+     * @param numberOfBricksPerLine The number of bricks per line.
+     * @throws IOException If the file can not be created.
+     */
+    public InputRecorder(Path path, long seed, int numberOfBrickLines, int numberOfBricksPerLine)
+            throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        this.seed = seed;
+        this.numberOfBrickLines = numberOfBrickLines;
+        this.numberOfBricksPerLine = numberOfBricksPerLine;
+    }
+
+    /**
+     * Logging the keys of a frame.
+     * @param deltaTime The time, in seconds, of the frame. The log keeps the first frame's.
+     * @param keys The keys of the frame, see {@link FrameInput}.
+     * @throws IOException If the log can not be written.
+     */
+    public void record(float deltaTime, int keys) throws IOException {
+        // the header is written with the first frame, whose delta time it keeps.
+        if (!headerWritten) {
+            new ReplayHeader(seed, numberOfBrickLines, numberOfBricksPerLine, deltaTime).write(out);
+            headerWritten = true;
+        }
+        if (runLength > 0 && keys != runKeys) {
+            writeRun();
+        }
+        runKeys = keys;
+        runLength++;
+    }
+
+    /**
+     * Writing the last run and closing the log.
+     * @throws IOException If the log can not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (runLength > 0) {
+            writeRun();
+        }
+        out.close();
+    }
+
+    /**
+     * Writing the current run and starting a new one.
+     * @throws IOException If the log can not be written.
+     */
+    private void writeRun() throws IOException {
+        long value = runLength << FrameInput.KEY_BITS | runKeys;
+        while ((value & ~((1L << VARINT_PAYLOAD_BITS) - 1)) != 0) {
+            out.writeByte((int) (value & (VARINT_MORE - 1)) | VARINT_MORE);
+            value >>>= VARINT_PAYLOAD_BITS;
+        }
+        out.writeByte((int) value);
+        out.flush();
+        runLength = 0;
+    }
+}
@@ -0,0 +1,93 @@
+package bricker.replay;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The header of an input recording: everything besides the keys that is needed to replay the
+ * game, which are the seed of its random streams, its board and the delta time of its frames.
+ */
+public class ReplayHeader {
+    private static final int MAGIC = 0x42524b52; // "BRKR"
+    private static final int VERSION = 1;
+
+    private final long seed;
+    private final int numberOfBrickLines;
+    private final int numberOfBricksPerLine;
+    private final float deltaTime;
+
+    /**
+     * Constructor.
+     * @param seed The seed of the game.
+     * @param numberOfBrickLines The number of brick lines.
+     * @param numberOfBricksPerLine The number of bricks per line.
+     * @param deltaTime The time, in seconds, of a recorded frame, which is a tick of the game.
+     */
+    public ReplayHeader(long seed, int numberOfBrickLines, int numberOfBricksPerLine, float deltaTime) {
+        this.seed = seed;
+        this.numberOfBrickLines = numberOfBrickLines;
+        this.numberOfBricksPerLine = numberOfBricksPerLine;
+        this.deltaTime = deltaTime;
+    }
+
+    /**
+     * Writing the header.
+     * @param out The stream of the recording.
+     * @throws IOException If the header can not be written.
+     */
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(seed);
+        out.writeInt(numberOfBrickLines);
+        out.writeInt(numberOfBricksPerLine);
+        out.writeFloat(deltaTime);
+    }
+
+    /**
+     * Reading a header.
+     * @param buffer The recording, positioned at its start. The buffer is left positioned after
+     *               the header.
+     * @return The header.
+     * @throws IOException If the buffer does not hold a recording this version can replay.
+     */
+    static ReplayHeader read(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < Integer.BYTES + 1 || buffer.getInt() != MAGIC) {
+            throw new IOException("not an input recording");
+        }
+        int version = buffer.get();
+        if (version != VERSION) {
+            throw new IOException("unsupported input recording version " + version);
+        }
+        return new ReplayHeader(buffer.getLong(), buffer.getInt(), buffer.getInt(), buffer.getFloat());
+    }
+
+    /**
+     * @return The seed of the game.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return The number of brick lines.
+     */
+    public int getNumberOfBrickLines() {
+        return numberOfBrickLines;
+    }
+
+    /**
+     * @return The number of bricks per line.
+     */
+    public int getNumberOfBricksPerLine() {
+        return numberOfBricksPerLine;
+    }
+
+    /**
+     * @return The time, in seconds, of a recorded frame.
+     */
+    public float getDeltaTime() {
+        return deltaTime;
+    }
+}
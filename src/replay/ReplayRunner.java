@@ -0,0 +1,59 @@
+package bricker.replay;
+
+import bricker.Constants;
+import bricker.level.Level;
+import bricker.main.HeadlessSimulation;
+import bricker.main.SimulationResult;
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Replays an input recording headless, as fast as the CPU allows.
+ * The game is rebuilt from the recording's seed and board, and every frame is stepped with the
+ * recording's delta time and keys. A recording of a level game is replayed on the same level,
+ * which, as the recording does not hold the level, is set by {@link Constants#LEVEL_PROPERTY}.
+ */
+public class ReplayRunner {
+    /**
+     * Default constructor for the replay runner.
+     */
+    private ReplayRunner() {}
+
+    /**
+     * Replays a recording.
+     * @param playback The recording.
+     * @return The result of the replayed game.
+     */
+    public static SimulationResult replay(InputPlayback playback) {
+        return replay(playback, null);
+    }
+
+    /**
+     * Replays a recording of a game played on a level.
+     * @param playback The recording.
+     * @param level The level the game was played on, or null if it was played on a rolled board.
+     * @return The result of the replayed game.
+     */
+    public static SimulationResult replay(InputPlayback playback, Level level) {
+        ReplayHeader header = playback.getHeader();
+        HeadlessSimulation simulation = new HeadlessSimulation(header.getNumberOfBrickLines(),
+                header.getNumberOfBricksPerLine(), header.getDeltaTime(), header.getSeed());
+        simulation.setLevel(level);
+        simulation.setInput(playback::nextKeys);
+        return simulation.run((int) Math.min(playback.getFrames(), Integer.MAX_VALUE));
+    }
+
+    /**
+     * Replays a recording and prints how fast it ran.
+     * @param args The file of the recording.
+     * @throws IOException If the recording, or the level file set by
+     *                     {@link Constants#LEVEL_PROPERTY}, can not be read.
+     */
+    public static void main(String[] args) throws IOException {
+        InputPlayback playback = InputPlayback.open(Paths.get(args[0]));
+        String levelPath = System.getProperty(Constants.LEVEL_PROPERTY);
+        Level level = levelPath == null ? null : Level.open(Paths.get(levelPath));
+        System.out.println(playback.getFrames() + " recorded frames");
+        System.out.println(replay(playback, level));
+    }
+}